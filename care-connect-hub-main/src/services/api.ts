@@ -1,4 +1,4 @@
-import { AuthResponse, User, ElderProfile, CaregiverProfile, CareRequest, CareApplication } from '@/types';
+import { AuthResponse, User, ElderProfile, CaregiverProfile, CareRequest, CareApplication, CursorPage } from '@/types';
 
 const API_BASE_URL = import.meta.env.VITE_API_URL || 'http://localhost:8080/api';
 
@@ -27,6 +27,11 @@ class ApiService {
       headers: this.getHeaders(),
     });
 
+    const reissuedToken = response.headers.get('X-Auth-Token');
+    if (reissuedToken) {
+      localStorage.setItem('token', reissuedToken);
+    }
+
     const data = await response.json().catch(() => null);
 
     if (!response.ok) {
@@ -98,12 +103,14 @@ class ApiService {
   }
 
   // Care Requests
-  async getCareRequests(filters?: { city?: string; state?: string }): Promise<CareRequest[]> {
+  async getCareRequests(filters?: { city?: string; state?: string; q?: string }): Promise<CareRequest[]> {
     const params = new URLSearchParams();
     if (filters?.city) params.append('city', filters.city);
     if (filters?.state) params.append('state', filters.state);
+    if (filters?.q) params.append('q', filters.q);
     const query = params.toString() ? `?${params.toString()}` : '';
-    return this.request<CareRequest[]>(`/care-requests${query}`);
+    const page = await this.request<CursorPage<CareRequest>>(`/care-requests${query}`);
+    return page.items;
   }
 
   async getCareRequest(id: string): Promise<CareRequest> {
@@ -118,7 +125,8 @@ class ApiService {
   }
 
   async getMyRequests(): Promise<CareRequest[]> {
-    return this.request<CareRequest[]>('/elder/care-requests');
+    const page = await this.request<CursorPage<CareRequest>>('/elder/care-requests');
+    return page.items;
   }
 
   // Applications
@@ -70,3 +70,8 @@ export interface CareApplication {
   message?: string;
   appliedAt: string;
 }
+
+export interface CursorPage<T> {
+  items: T[];
+  next: string | null;
+}
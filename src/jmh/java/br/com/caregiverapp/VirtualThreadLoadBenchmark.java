@@ -0,0 +1,131 @@
+package br.com.caregiverapp;
+
+import br.com.caregiverapp.domain.model.UserRole;
+import br.com.caregiverapp.security.CurrentActor;
+import br.com.caregiverapp.security.JwtService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end load on the running application, platform vs virtual request threads: 400 client
+ * threads fetch random care requests by id (JWT filter, one blocking JDBC select, JSON) against
+ * Tomcat on a local port and an embedded Postgres migrated by the application itself.
+ * Throughput and latency percentiles come out of the sample-time mode; 503s from admission
+ * control at connection checkout count as failed calls, see {@link Client#failures}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(400)
+public class VirtualThreadLoadBenchmark {
+
+    private static final int CARE_REQUESTS = 50_000;
+
+    @Param({"false", "true"})
+    public String virtualThreads;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext application;
+    private HttpClient http;
+    private String baseUrl;
+    private String token;
+    private List<UUID> careRequestIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.start();
+
+        // as arguments: builder properties are defaults, which application.properties overrides
+        application = new SpringApplicationBuilder(CaregiverappApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=",
+                "--spring.jpa.show-sql=false",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--logging.level.root=WARN"
+        );
+
+        JdbcTemplate jdbc = new JdbcTemplate(postgres.getPostgresDatabase());
+        seed(jdbc);
+        careRequestIds = jdbc.queryForList("SELECT id FROM care_requests", UUID.class);
+
+        int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port + "/api/care-requests/";
+        token = application.getBean(JwtService.class).generateToken(new CurrentActor(
+                jdbc.queryForObject("SELECT md5('user-1')::uuid", UUID.class),
+                "elder1@bench.test",
+                UserRole.ELDER,
+                jdbc.queryForObject("SELECT md5('elder-1')::uuid", UUID.class)
+        ));
+        http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        application.close();
+        postgres.close();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Client {
+
+        public long failures;
+    }
+
+    @Benchmark
+    public int getCareRequest(Client client) throws IOException, InterruptedException {
+        UUID id = careRequestIds.get(ThreadLocalRandom.current().nextInt(careRequestIds.size()));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + id))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+
+        HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            client.failures++;
+        }
+        return response.body().length;
+    }
+
+    private static void seed(JdbcTemplate jdbc) {
+        jdbc.execute("""
+                INSERT INTO users (id, full_name, email, password_hash, role)
+                SELECT md5('user-' || i)::uuid, 'Elder ' || i, 'elder' || i || '@bench.test', 'x', 'ELDER'
+                FROM generate_series(1, 500) AS i
+                """);
+        jdbc.execute("""
+                INSERT INTO elder_profiles (id, user_id, city, state, phone, address)
+                SELECT md5('elder-' || i)::uuid, md5('user-' || i)::uuid,
+                       'City ' || (i % 50), 'SP', '11999990000', 'Rua ' || i
+                FROM generate_series(1, 500) AS i
+                """);
+        jdbc.execute("""
+                INSERT INTO care_requests (id, elder_profile_id, description, care_date, start_time, end_time,
+                                           city, state, status)
+                SELECT uuid_generate_v7(), md5('elder-' || (1 + i %% 500))::uuid,
+                       'Companhia durante a tarde - pedido ' || i,
+                       DATE '2026-01-01' + (i %% 365), TIME '14:00', TIME '18:00',
+                       'City ' || (i %% 50), 'SP', 'ASSIGNED'
+                FROM generate_series(1, %d) AS i
+                """.formatted(CARE_REQUESTS));
+        jdbc.execute("ANALYZE");
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.caregiverapp.domain.dto;
+
+import br.com.caregiverapp.domain.model.CareRequest;
+import br.com.caregiverapp.domain.model.CareRequestApplication;
+import br.com.caregiverapp.domain.model.CaregiverProfile;
+import br.com.caregiverapp.domain.model.ElderProfile;
+import br.com.caregiverapp.domain.model.User;
+import br.com.caregiverapp.domain.model.UserRole;
+import br.com.caregiverapp.domain.model.UuidV7Generator;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detached entities shaped like a listing page: one elder's care requests, each with an
+ * application from a different caregiver. Ids and creation times, normally set on insert,
+ * are filled in directly.
+ */
+final class ResponseFixtures {
+
+    static final int PAGE_SIZE = 20;
+
+    private ResponseFixtures() {}
+
+    static List<CareRequest> careRequests() {
+        User elderUser = persisted(new User("Elder Benchmark", "elder@bench.test", "not-a-hash", UserRole.ELDER));
+        ElderProfile elder = persisted(new ElderProfile(elderUser, null, null, null, null, "Campinas", "SP"));
+
+        List<CareRequest> requests = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            CareRequest request = persisted(new CareRequest(
+                    elder, "Companhia durante a tarde e caminhada leve #" + i,
+                    LocalDate.of(2026, 6, 1).plusDays(i), LocalTime.of(14, 0), LocalTime.of(18, 0),
+                    "Campinas", "SP"
+            ));
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    static List<CareRequestApplication> applications(List<CareRequest> requests) {
+        List<CareRequestApplication> applications = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            applications.add(persisted(new CareRequestApplication(
+                    requests.get(i), caregiver(i), "Tenho disponibilidade nesse horário"
+            )));
+        }
+        // one accepted, so both status branches of the mapper run
+        requests.get(0).assignCaregiver(applications.get(0).getCaregiverProfile());
+        return applications;
+    }
+
+    static CaregiverProfile caregiver(int i) {
+        User user = persisted(new User(
+                "Caregiver " + i, "caregiver" + i + "@bench.test", "not-a-hash", UserRole.CAREGIVER
+        ));
+        return persisted(new CaregiverProfile(
+                user, "Técnica de enfermagem com experiência em cuidados paliativos", 3 + i % 10,
+                new BigDecimal("45.00"), LocalTime.of(8, 0), LocalTime.of(18, 0), "Campinas", "SP",
+                List.of("cooking", "driving", "medication", "mobility", "first-aid")
+        ));
+    }
+
+    private static <T> T persisted(T entity) {
+        set(entity, "id", UuidV7Generator.next());
+        set(entity, "createdAt", OffsetDateTime.now());
+        return entity;
+    }
+
+    private static void set(Object entity, String name, Object value) {
+        try {
+            Field field = entity.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(entity, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
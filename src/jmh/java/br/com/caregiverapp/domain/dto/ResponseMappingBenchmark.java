@@ -0,0 +1,52 @@
+package br.com.caregiverapp.domain.dto;
+
+import br.com.caregiverapp.domain.model.CareRequest;
+import br.com.caregiverapp.domain.model.CareRequestApplication;
+import br.com.caregiverapp.domain.model.CaregiverProfile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping for one listing page, as done after every query that loads
+ * entities. The skills split runs once per applicant and per caregiver profile response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResponseMappingBenchmark {
+
+    private List<CareRequest> careRequests;
+    private List<CareRequestApplication> applications;
+    private CaregiverProfile caregiver;
+
+    @Setup
+    public void setUp() {
+        careRequests = ResponseFixtures.careRequests();
+        applications = ResponseFixtures.applications(careRequests);
+        caregiver = ResponseFixtures.caregiver(0);
+    }
+
+    @Benchmark
+    public List<CareRequestResponse> careRequestResponses() {
+        return careRequests.stream().map(CareRequestResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<CareRequestApplicationResponse> careRequestApplicationResponses() {
+        return applications.stream().map(CareRequestApplicationResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<CaregiverApplicantResponse> caregiverApplicantResponses() {
+        return applications.stream().map(CaregiverApplicantResponse::from).toList();
+    }
+
+    @Benchmark
+    public List<String> skillsAsList() {
+        return caregiver.getSkillsAsList();
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.caregiverapp.domain.dto;
+
+import br.com.caregiverapp.domain.model.CareRequest;
+import br.com.caregiverapp.domain.model.CareRequestApplication;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of one listing page per response type, with an {@link ObjectMapper}
+ * built the way Spring MVC builds its own. Reports time per page and, as the {@code bytes} and
+ * {@code pages} secondary metrics, what the run serialized; {@code bytes / pages} is the size of
+ * a page, since a size regression costs as much as a slower serializer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private CursorPage<CareRequestResponse> careRequestPage;
+    private List<CareRequestApplicationResponse> applications;
+    private List<CaregiverApplicantResponse> applicants;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<CareRequest> careRequests = ResponseFixtures.careRequests();
+        List<CareRequestApplication> entities = ResponseFixtures.applications(careRequests);
+
+        careRequestPage = new CursorPage<>(
+                careRequests.stream().map(CareRequestResponse::from).toList(),
+                "eyJjYXJlRGF0ZSI6IjIwMjYtMDYtMjAifQ"
+        );
+        applications = entities.stream().map(CareRequestApplicationResponse::from).toList();
+        applicants = entities.stream().map(CaregiverApplicantResponse::from).toList();
+    }
+
+    // JMH sums event counters over iterations and forks, so both are totals and only their ratio
+    // is comparable between runs
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        public long bytes;
+        public long pages;
+
+        byte[] measure(byte[] page) {
+            bytes += page.length;
+            pages++;
+            return page;
+        }
+    }
+
+    @Benchmark
+    public byte[] careRequestPage(Payload payload) throws JsonProcessingException {
+        return payload.measure(objectMapper.writeValueAsBytes(careRequestPage));
+    }
+
+    @Benchmark
+    public byte[] applications(Payload payload) throws JsonProcessingException {
+        return payload.measure(objectMapper.writeValueAsBytes(applications));
+    }
+
+    @Benchmark
+    public byte[] applicants(Payload payload) throws JsonProcessingException {
+        return payload.measure(objectMapper.writeValueAsBytes(applicants));
+    }
+}
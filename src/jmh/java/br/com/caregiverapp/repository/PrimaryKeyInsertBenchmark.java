@@ -0,0 +1,122 @@
+package br.com.caregiverapp.repository;
+
+import br.com.caregiverapp.domain.model.UuidV7Generator;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Insert throughput into care_requests with random (v4) vs time-ordered (v7) primary keys, once
+ * the table already holds several million rows and its primary key index no longer fits in
+ * shared_buffers. Reports rows per second; the primary key index size is printed at teardown,
+ * since v4 page splits also leave it larger.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@OperationsPerInvocation(PrimaryKeyInsertBenchmark.BATCH)
+public class PrimaryKeyInsertBenchmark {
+
+    static final int BATCH = 1_000;
+
+    private static final String INSERT = """
+            INSERT INTO care_requests (id, elder_profile_id, description, care_date, start_time, end_time,
+                                       city, state, status)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'OPEN')
+            """;
+
+    @Param({"v4", "v7"})
+    public String idVersion;
+
+    @Param({"2000000", "5000000"})
+    public int preloadedRows;
+
+    private EmbeddedPostgres postgres;
+    private JdbcTemplate jdbc;
+    private Supplier<UUID> ids;
+    private UUID elderProfileId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.builder()
+                .setServerConfig("shared_buffers", "128MB")
+                .start();
+        DataSource dataSource = postgres.getPostgresDatabase();
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                // as in application.properties: CREATE INDEX CONCURRENTLY waits on a transactional lock
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load()
+                .migrate();
+
+        jdbc = new JdbcTemplate(dataSource);
+        ids = "v7".equals(idVersion) ? UuidV7Generator::next : UUID::randomUUID;
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Long indexBytes = jdbc.queryForObject(
+                "SELECT pg_relation_size('care_requests_pkey')", Long.class
+        );
+        System.out.printf("%n%s, %d preloaded rows: care_requests_pkey is %d MB%n",
+                idVersion, preloadedRows, indexBytes / (1024 * 1024));
+        postgres.close();
+    }
+
+    @Benchmark
+    public int[] insertBatch() {
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            rows.add(new Object[]{
+                    ids.get(), elderProfileId, "Companhia durante a tarde",
+                    Date.valueOf(LocalDate.of(2026, 6, 1)),
+                    Time.valueOf(LocalTime.of(14, 0)), Time.valueOf(LocalTime.of(18, 0)),
+                    "City " + (i % 100), "SP"
+            });
+        }
+        return jdbc.batchUpdate(INSERT, rows);
+    }
+
+    private void seed() {
+        jdbc.execute("""
+                INSERT INTO users (id, full_name, email, password_hash, role)
+                VALUES (md5('user-1')::uuid, 'Elder 1', 'elder1@bench.test', 'x', 'ELDER')
+                """);
+        jdbc.execute("""
+                INSERT INTO elder_profiles (id, user_id, city, state, phone, address)
+                VALUES (md5('elder-1')::uuid, md5('user-1')::uuid, 'City 1', 'SP', '11999990000', 'Rua 1')
+                """);
+        elderProfileId = jdbc.queryForObject("SELECT md5('elder-1')::uuid", UUID.class);
+
+        // the existing rows get the same kind of key as the measured inserts
+        String id = "v7".equals(idVersion) ? "uuid_generate_v7()" : "uuid_generate_v4()";
+        jdbc.execute("""
+                INSERT INTO care_requests (id, elder_profile_id, description, care_date, start_time, end_time,
+                                           city, state, status)
+                SELECT %s, md5('elder-1')::uuid, 'Pedido ' || i,
+                       DATE '2026-01-01' + (i %% 365), TIME '08:00', TIME '12:00',
+                       'City ' || (i %% 100), 'SP', 'ASSIGNED'
+                FROM generate_series(1, %d) AS i
+                """.formatted(id, preloadedRows));
+        jdbc.execute("VACUUM ANALYZE care_requests");
+    }
+}
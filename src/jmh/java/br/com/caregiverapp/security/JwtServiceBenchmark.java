@@ -0,0 +1,77 @@
+package br.com.caregiverapp.security;
+
+import br.com.caregiverapp.domain.model.UserRole;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token cost per login and per authenticated request.
+ * {@code legacy} reproduces the old filter: isValid + extractEmail, each with a freshly built parser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtServiceBenchmark {
+
+    private JwtService uncached;
+    private JwtService cached;
+    private CurrentActor actor;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncached = new JwtService(new VerifiedTokenCache(false, 0, Duration.ZERO));
+        cached = new JwtService(new VerifiedTokenCache(true, 10_000, Duration.ofMinutes(5)));
+
+        actor = new CurrentActor(
+                UUID.randomUUID(),
+                "benchmark@caregiverapp.com.br",
+                UserRole.CAREGIVER,
+                UUID.randomUUID()
+        );
+        token = uncached.generateToken(actor);
+    }
+
+    @Benchmark
+    public String generate() {
+        return uncached.generateToken(actor);
+    }
+
+    @Benchmark
+    public String legacy() {
+        Jwts.parserBuilder()
+                .setSigningKey(uncached.getSigningKey())
+                .build()
+                .parseClaimsJws(token);
+
+        return Jwts.parserBuilder()
+                .setSigningKey(uncached.getSigningKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifySharedParser() {
+        return uncached.verify(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyCached() {
+        return cached.verify(token);
+    }
+
+    // verify plus the principal the filter authenticates with
+    @Benchmark
+    public CurrentActor parseToActor() {
+        return uncached.verify(token).map(VerifiedToken::actor).orElseThrow();
+    }
+}
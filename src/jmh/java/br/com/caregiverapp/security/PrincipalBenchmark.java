@@ -0,0 +1,80 @@
+package br.com.caregiverapp.security;
+
+import br.com.caregiverapp.domain.model.User;
+import br.com.caregiverapp.domain.model.UserRole;
+import br.com.caregiverapp.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the authenticated principal once the token is verified: {@code userDetails} is
+ * the path for tokens without actor claims (principal cache hit, then Spring Security's
+ * {@code User} builder); {@code actorFromClaims} is what verification adds for current tokens
+ * on a token cache miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PrincipalBenchmark {
+
+    private static final String EMAIL = "benchmark@caregiverapp.com.br";
+
+    private CustomUserDetailsService userDetailsService;
+    private JwtService jwtService;
+    private Claims claims;
+
+    @Setup
+    public void setUp() {
+        User user = new User("Benchmark User", EMAIL, "not-a-hash", UserRole.CAREGIVER);
+        UserRepository repository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByEmail")) {
+                        return Optional.of(user);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+        userDetailsService = new CustomUserDetailsService(
+                repository, new PrincipalCache(true, 10_000, Duration.ofMinutes(5))
+        );
+
+        jwtService = new JwtService(new VerifiedTokenCache(false, 0, Duration.ZERO));
+        String token = jwtService.generateToken(
+                new CurrentActor(UUID.randomUUID(), EMAIL, UserRole.CAREGIVER, UUID.randomUUID())
+        );
+        claims = Jwts.parserBuilder()
+                .setSigningKey(jwtService.getSigningKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken userDetails() {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(EMAIL);
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    @Benchmark
+    public UsernamePasswordAuthenticationToken actorFromClaims() {
+        CurrentActor actor = jwtService.toActor(claims);
+        return new UsernamePasswordAuthenticationToken(
+                actor, null, List.of(new SimpleGrantedAuthority("ROLE_" + actor.role().name()))
+        );
+    }
+}
@@ -2,8 +2,10 @@ package br.com.caregiverapp;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class CaregiverappApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,127 @@
+package br.com.caregiverapp.config;
+
+import br.com.caregiverapp.exception.ServiceBusyException;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the connections checked out at once at the connection pool size. With virtual threads
+ * Tomcat no longer bounds concurrency, and every caller past the pool would otherwise park
+ * holding its memory until Hikari's 30s connection timeout; here it waits at most
+ * {@code max-wait} and then gets a {@link ServiceBusyException} (503). On by default only in
+ * virtual-thread mode.
+ *
+ * <p>Permits are taken by {@link AdmissionControlDataSource} when a connection is checked out
+ * and returned when it is closed, so requests that never reach the database (index and
+ * response cache hits, 304s) are never held back. Sized once every pool exists; checkouts
+ * before that, Flyway's included, are not limited.
+ */
+@Component
+public class AdmissionControl implements SmartInitializingSingleton {
+
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    private final boolean enabled;
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final ObjectProvider<DataSource> dataSources;
+
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile int permits;
+    private volatile Semaphore admitted;
+
+    public AdmissionControl(
+            ObjectProvider<DataSource> dataSources,
+            @Value("${caregiverapp.admission.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+            @Value("${caregiverapp.admission.max-concurrent:0}") int maxConcurrent,
+            @Value("${caregiverapp.admission.max-wait:2s}") Duration maxWait
+    ) {
+        this.dataSources = dataSources;
+        this.enabled = enabled;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // all pools together when read-only transactions are routed to a replica; unwrapped,
+        // since the application's data source is wrapped around the pool
+        int poolSize = dataSources.stream()
+                .map(dataSource -> DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class))
+                .filter(Objects::nonNull)
+                .distinct()
+                .mapToInt(HikariDataSource::getMaximumPoolSize)
+                .sum();
+
+        permits = maxConcurrent > 0
+                ? maxConcurrent
+                : poolSize > 0 ? poolSize : HIKARI_DEFAULT_POOL_SIZE;
+        admitted = new Semaphore(permits, true);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Waits up to {@code max-wait} for a permit; the returned handle gives it back, at most once.
+     */
+    Runnable acquire() {
+        Semaphore semaphore = admitted;
+        if (semaphore == null) {
+            return () -> {};
+        }
+
+        try {
+            if (!semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new ServiceBusyException("Server busy, try again shortly");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Server busy, try again shortly");
+        }
+
+        return new Runnable() {
+            private boolean released;
+
+            @Override
+            public synchronized void run() {
+                if (!released) {
+                    released = true;
+                    semaphore.release();
+                }
+            }
+        };
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    public int getInFlight() {
+        Semaphore semaphore = admitted;
+        return semaphore != null ? permits - semaphore.availablePermits() : 0;
+    }
+
+    public int getQueued() {
+        Semaphore semaphore = admitted;
+        return semaphore != null ? semaphore.getQueueLength() : 0;
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.caregiverapp.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's data source, the one JPA and JdbcTemplate share, in an
+ * {@link AdmissionControlDataSource} when admission control is on. With the replica configured
+ * that is the routing proxy, so connections to either pool take a permit.
+ */
+@Configuration
+public class AdmissionControlConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    // static: post-processors are created before the other beans of this class
+    @Bean
+    public static BeanPostProcessor admissionControlDataSourcePostProcessor(
+            ObjectProvider<AdmissionControl> admissionControl
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                        && DATA_SOURCE_BEAN.equals(beanName)
+                        && admissionControl.getObject().isEnabled()) {
+                    return new AdmissionControlDataSource(dataSource, admissionControl.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
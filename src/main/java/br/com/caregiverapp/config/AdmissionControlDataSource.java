@@ -0,0 +1,75 @@
+package br.com.caregiverapp.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Takes an {@link AdmissionControl} permit for every connection it hands out and returns it
+ * when the connection is closed. A connection that cannot be opened gives its permit back
+ * straight away.
+ */
+public class AdmissionControlDataSource extends DelegatingDataSource {
+
+    private final AdmissionControl admissionControl;
+
+    public AdmissionControlDataSource(DataSource target, AdmissionControl admissionControl) {
+        super(target);
+        this.admissionControl = admissionControl;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Runnable release = admissionControl.acquire();
+        try {
+            return connection(obtainTargetDataSource().getConnection(), release);
+        } catch (SQLException | RuntimeException e) {
+            release.run();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Runnable release = admissionControl.acquire();
+        try {
+            return connection(obtainTargetDataSource().getConnection(username, password), release);
+        } catch (SQLException | RuntimeException e) {
+            release.run();
+            throw e;
+        }
+    }
+
+    // identity equality, as for the connection pool's own proxies
+    private static Connection connection(Connection target, Runnable release) {
+        return (Connection) Proxy.newProxyInstance(
+                AdmissionControlDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            yield invoke(target, method, args);
+                        } finally {
+                            release.run();
+                        }
+                    }
+                    default -> invoke(target, method, args);
+                }
+        );
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.caregiverapp.config;
 
+import br.com.caregiverapp.security.JwtService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.cors.*;
@@ -17,6 +18,7 @@ public class CorsConfig {
         config.setAllowedOrigins(List.of("http://localhost:8081"));
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(List.of("*"));
+        config.setExposedHeaders(List.of(JwtService.TOKEN_HEADER));
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source =
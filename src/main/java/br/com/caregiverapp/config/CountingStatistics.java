@@ -0,0 +1,36 @@
+package br.com.caregiverapp.config;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.hibernate.stat.spi.StatisticsFactory;
+
+/**
+ * Hibernate's statistics, also charging each prepared statement and fetched row to the
+ * current request. Rows are those returned by queries plus entities fetched by id.
+ */
+public class CountingStatistics extends StatisticsImpl {
+
+    public static final StatisticsFactory FACTORY = CountingStatistics::new;
+
+    public CountingStatistics(SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+    }
+
+    @Override
+    public void prepareStatement() {
+        super.prepareStatement();
+        RequestSqlCounter.statementPrepared();
+    }
+
+    @Override
+    public void queryExecuted(String hql, int rows, long time) {
+        super.queryExecuted(hql, rows, time);
+        RequestSqlCounter.rowsFetched(rows);
+    }
+
+    @Override
+    public void fetchEntity(String entityName) {
+        super.fetchEntity(entityName);
+        RequestSqlCounter.rowsFetched(1);
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.caregiverapp.config;
+
+import br.com.caregiverapp.domain.model.CacheRegions;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Caffeine-backed JCache regions for Hibernate's second-level and natural-id caches.
+ *
+ * <p>Every region is created here, bounded by {@code max-size} and expired {@code ttl} after
+ * being written, from {@code caregiverapp.entity-cache.<entity region>.*}. The TTL bounds how
+ * long another instance's writes can go unseen; writes made through this instance update the
+ * cache on commit. Statistics are kept per region and published over JMX.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    // region -> entity region whose settings it uses
+    private static final Map<String, String> REGIONS = Map.of(
+            CacheRegions.USERS, CacheRegions.USERS,
+            CacheRegions.USERS_BY_EMAIL, CacheRegions.USERS,
+            CacheRegions.CAREGIVER_PROFILES, CacheRegions.CAREGIVER_PROFILES,
+            CacheRegions.CAREGIVER_PROFILES_BY_USER, CacheRegions.CAREGIVER_PROFILES,
+            CacheRegions.ELDER_PROFILES, CacheRegions.ELDER_PROFILES,
+            CacheRegions.ELDER_PROFILES_BY_USER, CacheRegions.ELDER_PROFILES
+    );
+
+    // own provider instance, so each application context gets its own manager and regions
+    @Bean(destroyMethod = "close")
+    public CaffeineCachingProvider entityCachingProvider() {
+        return new CaffeineCachingProvider();
+    }
+
+    @Bean
+    public CacheManager entityCacheManager(CaffeineCachingProvider entityCachingProvider, Environment environment) {
+        CacheManager cacheManager = entityCachingProvider.getCacheManager(
+                entityCachingProvider.getDefaultURI(), getClass().getClassLoader()
+        );
+
+        REGIONS.forEach((region, settings) -> {
+            String prefix = "caregiverapp.entity-cache." + settings;
+            long maxSize = environment.getProperty(prefix + ".max-size", Long.class, 10_000L);
+            Duration ttl = environment.getProperty(prefix + ".ttl", Duration.class, Duration.ofMinutes(10));
+
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            configuration.setStatisticsEnabled(true);
+            configuration.setManagementEnabled(true);
+
+            cacheManager.createCache(region, configuration);
+        });
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            // every region is declared above; a missing one is a mapping mistake
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
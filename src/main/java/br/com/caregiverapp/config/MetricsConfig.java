@@ -0,0 +1,165 @@
+package br.com.caregiverapp.config;
+
+import br.com.caregiverapp.security.LoginRateLimitFilter;
+import br.com.caregiverapp.security.PrincipalCache;
+import br.com.caregiverapp.security.VerifiedTokenCache;
+import br.com.caregiverapp.service.CareRequestResponseCache;
+import br.com.caregiverapp.service.OpenCareRequestIndex;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Application meters next to Boot's own (HTTP server, Hikari, JVM, Tomcat), scraped from
+ * {@code /actuator/prometheus}. Caches follow Micrometer's {@code cache.*} naming so hit
+ * ratios read the same for every cache, the Hibernate second-level regions included.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer countingStatisticsCustomizer() {
+        return properties -> properties.put("hibernate.stats.factory", CountingStatistics.FACTORY);
+    }
+
+    // adds the controller method to http.server.requests, so latency histograms are per handler
+    @Bean
+    public ServerRequestObservationConvention handlerObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context)
+                        .and(KeyValue.of("handler", RequestMetricsFilter.handlerName(context.getCarrier())));
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder applicationMetrics(
+            CareRequestResponseCache listingCache,
+            PrincipalCache principalCache,
+            VerifiedTokenCache tokenCache,
+            OpenCareRequestIndex openIndex,
+            AdmissionControl admissionControl,
+            LoginRateLimitFilter loginRateLimit,
+            VirtualThreadPinningMonitor pinningMonitor,
+            SlowQueryRecorder slowQueries,
+            ObjectProvider<ReplicaRoutingDataSource> replicaRouting,
+            ObjectProvider<ReplicaLagMonitor> replicaLag,
+            EntityManagerFactory entityManagerFactory
+    ) {
+        return registry -> {
+            cache(registry, "listing-responses", listingCache,
+                    CareRequestResponseCache::hitCount, CareRequestResponseCache::missCount,
+                    CareRequestResponseCache::size);
+            counter(registry, "cache.evictions", listingCache, CareRequestResponseCache::evictionCount,
+                    "cache", "listing-responses");
+            gauge(registry, "cache.size.bytes", listingCache, CareRequestResponseCache::sizeInBytes,
+                    "cache", "listing-responses");
+
+            cache(registry, "principals", principalCache,
+                    PrincipalCache::hitCount, PrincipalCache::missCount, PrincipalCache::size);
+            counter(registry, "cache.evictions", principalCache, PrincipalCache::evictionCount,
+                    "cache", "principals");
+
+            cache(registry, "verified-tokens", tokenCache,
+                    VerifiedTokenCache::hitCount, VerifiedTokenCache::missCount, VerifiedTokenCache::size);
+
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            for (String region : statistics.getSecondLevelCacheRegionNames()) {
+                CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+                if (regionStatistics == null) {
+                    continue;
+                }
+                cache(registry, region, regionStatistics,
+                        CacheRegionStatistics::getHitCount, CacheRegionStatistics::getMissCount,
+                        CacheRegionStatistics::getElementCountInMemory);
+            }
+
+            gauge(registry, "care.request.index.size", openIndex, OpenCareRequestIndex::size);
+            gauge(registry, "care.request.index.staleness.seconds", openIndex,
+                    index -> index.staleness().toMillis() / 1000.0);
+            counter(registry, "care.request.index.mismatches", openIndex, OpenCareRequestIndex::mismatchCount);
+
+            gauge(registry, "admission.in.flight", admissionControl, AdmissionControl::getInFlight);
+            gauge(registry, "admission.queued", admissionControl, AdmissionControl::getQueued);
+            counter(registry, "admission.rejected", admissionControl, AdmissionControl::getRejected);
+
+            counter(registry, "login.rate.limit.rejected", loginRateLimit,
+                    LoginRateLimitFilter::getRejectedByIp, "key", "ip");
+            counter(registry, "login.rate.limit.rejected", loginRateLimit,
+                    LoginRateLimitFilter::getRejectedByAccount, "key", "account");
+
+            counter(registry, "virtual.threads.pinned", pinningMonitor,
+                    VirtualThreadPinningMonitor::getPinnedCount);
+
+            counter(registry, "db.slow.queries", slowQueries, SlowQueryRecorder::recordedCount);
+
+            replicaRouting.ifAvailable(routing -> {
+                counter(registry, "datasource.replica.connections", routing,
+                        ReplicaRoutingDataSource::replicaConnectionCount);
+                counter(registry, "datasource.replica.fallbacks", routing,
+                        ReplicaRoutingDataSource::primaryFallbackCount);
+            });
+            replicaLag.ifAvailable(monitor -> {
+                gauge(registry, "datasource.replica.usable", monitor, lag -> lag.isUsable() ? 1 : 0);
+                gauge(registry, "datasource.replica.lag.seconds", monitor,
+                        lag -> lag.getLag() != null ? lag.getLag().toMillis() / 1000.0 : Double.NaN);
+            });
+        };
+    }
+
+    private static <T> void cache(
+            MeterRegistry registry,
+            String name,
+            T cache,
+            ToLongFunction<T> hits,
+            ToLongFunction<T> misses,
+            ToLongFunction<T> size
+    ) {
+        counter(registry, "cache.gets", cache, hits, "cache", name, "result", "hit");
+        counter(registry, "cache.gets", cache, misses, "cache", name, "result", "miss");
+        gauge(registry, "cache.size", cache, value -> size.applyAsLong(value), "cache", name);
+    }
+
+    private static <T> void counter(
+            MeterRegistry registry,
+            String name,
+            T source,
+            ToLongFunction<T> count,
+            String... tags
+    ) {
+        FunctionCounter.builder(name, source, value -> count.applyAsLong(value))
+                .tags(tags)
+                .register(registry);
+    }
+
+    private static <T> void gauge(
+            MeterRegistry registry,
+            String name,
+            T source,
+            ToDoubleFunction<T> value,
+            String... tags
+    ) {
+        Gauge.builder(name, source, value)
+                .tags(tags)
+                .register(registry);
+    }
+}
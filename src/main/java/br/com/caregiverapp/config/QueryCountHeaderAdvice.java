@@ -0,0 +1,45 @@
+package br.com.caregiverapp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Sets {@value RequestMetricsFilter#QUERY_COUNT_HEADER} just before a body is written, the
+ * last moment headers can change; the service call and its mapping are done by then.
+ */
+@ControllerAdvice
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    private final boolean enabled;
+
+    public QueryCountHeaderAdvice(@Value("${caregiverapp.query-budget.header:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+        RequestSqlCounter.Counts counts = RequestSqlCounter.current();
+        if (counts != null) {
+            response.getHeaders().set(RequestMetricsFilter.QUERY_COUNT_HEADER, String.valueOf(counts.statements()));
+        }
+        return body;
+    }
+}
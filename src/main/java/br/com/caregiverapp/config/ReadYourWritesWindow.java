@@ -0,0 +1,50 @@
+package br.com.caregiverapp.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Users who committed a write in the last {@code window}; their read-only transactions stay on
+ * the primary until it passes, so they see their own changes even if the replica is behind.
+ * Kept per instance: a user whose next request lands on another instance is only covered by
+ * the replica's lag limit.
+ */
+public class ReadYourWritesWindow {
+
+    // expired entries are dropped on lookup, and swept once the map grows past this
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final Map<UUID, Long> primaryUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesWindow(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(UUID userId) {
+        long now = System.nanoTime();
+        primaryUntil.put(userId, now + windowNanos);
+
+        if (primaryUntil.size() > SWEEP_THRESHOLD) {
+            primaryUntil.values().removeIf(until -> until - now <= 0);
+        }
+    }
+
+    public boolean isOpen(UUID userId) {
+        Long until = primaryUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        primaryUntil.remove(userId, until);
+        return false;
+    }
+
+    public int size() {
+        return primaryUntil.size();
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.caregiverapp.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Polls the replica's replay lag; reads go back to the primary while it is above
+ * {@code maxLag} or the replica cannot be reached. Starts out unusable until the first check.
+ *
+ * <p>Lag is measured against the primary's WAL position, not the replica's own receive
+ * position: a replica whose WAL receiver has disconnected has replayed everything it received
+ * and would otherwise look caught up while falling further behind.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String PRIMARY_LSN = "SELECT pg_current_wal_lsn()::text";
+
+    // caught up once everything the primary had written is replayed, whatever the last commit
+    // time; behind, the lag is the age of the last replayed commit, unknown if there is none.
+    // A server that is not in recovery (local setups) has no lag
+    private static final String LAG_SECONDS = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_replay_lsn() >= ?::pg_lsn THEN 0
+                       ELSE extract(epoch FROM now() - pg_last_xact_replay_timestamp())
+                   END
+            """;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+
+    private volatile boolean usable;
+    private volatile Duration lag;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag) {
+        this.primary = new JdbcTemplate(primary);
+        this.primary.setQueryTimeout(5);
+        this.replica = new JdbcTemplate(replica);
+        this.replica.setQueryTimeout(5);
+        this.maxLag = maxLag;
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    public Duration getLag() {
+        return lag;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${caregiverapp.datasource.replica.lag-check-interval:PT5S}",
+            initialDelay = 0
+    )
+    public void check() {
+        try {
+            String primaryLsn = primary.queryForObject(PRIMARY_LSN, String.class);
+            Double seconds = replica.queryForObject(LAG_SECONDS, Double.class, primaryLsn);
+            if (seconds == null) {
+                lag = null;
+                update(false, "behind the primary with no replayed commit");
+                return;
+            }
+            lag = Duration.ofMillis(Math.round(seconds * 1000));
+            update(lag.compareTo(maxLag) <= 0, "lag " + lag);
+        } catch (RuntimeException e) {
+            lag = null;
+            update(false, e.getMessage());
+        }
+    }
+
+    /**
+     * Called when a connection to the replica fails between checks.
+     */
+    void markUnavailable(Exception cause) {
+        update(false, cause.getMessage());
+    }
+
+    private void update(boolean nowUsable, String reason) {
+        if (usable != nowUsable) {
+            if (nowUsable) {
+                log.info("Routing read-only transactions to the replica ({})", reason);
+            } else {
+                log.warn("Routing read-only transactions to the primary: {}", reason);
+            }
+        }
+        usable = nowUsable;
+    }
+}
@@ -0,0 +1,111 @@
+package br.com.caregiverapp.config;
+
+import br.com.caregiverapp.security.CurrentActor;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hands out replica connections to read-only transactions and primary connections to
+ * everything else, including work outside a transaction.
+ *
+ * <p>Must sit behind a {@code LazyConnectionDataSourceProxy}: transaction managers ask for the
+ * connection before the transaction's read-only flag is published, so the decision has to
+ * wait for the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesWindow readYourWrites;
+
+    private final LongAdder replicaConnections = new LongAdder();
+    private final LongAdder primaryFallbacks = new LongAdder();
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReplicaLagMonitor lagMonitor,
+            ReadYourWritesWindow readYourWrites
+    ) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(target -> target.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            openReadYourWritesOnCommit();
+            return opener.open(primary);
+        }
+
+        UUID userId = currentUserId();
+        if ((userId != null && readYourWrites.isOpen(userId)) || !lagMonitor.isUsable()) {
+            primaryFallbacks.increment();
+            return opener.open(primary);
+        }
+
+        try {
+            Connection connection = opener.open(replica);
+            replicaConnections.increment();
+            return connection;
+        } catch (SQLException e) {
+            lagMonitor.markUnavailable(e);
+            primaryFallbacks.increment();
+            return opener.open(primary);
+        }
+    }
+
+    public long replicaConnectionCount() {
+        return replicaConnections.sum();
+    }
+
+    public long primaryFallbackCount() {
+        return primaryFallbacks.sum();
+    }
+
+    private void openReadYourWritesOnCommit() {
+        UUID userId = currentUserId();
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite(userId);
+            }
+        });
+    }
+
+    private static UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof CurrentActor actor
+                ? actor.userId()
+                : null;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource target) throws SQLException;
+    }
+}
@@ -0,0 +1,152 @@
+package br.com.caregiverapp.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Records the SQL statements and rows behind each API request, by method and URI template,
+ * and writes a one-line key=value summary for a sample of requests. Statement text is not
+ * logged; turn on {@code org.hibernate.SQL} at DEBUG for that.
+ *
+ * <p>Each handler has a statement budget, {@code caregiverapp.query-budget.endpoints.<Controller.method>}
+ * or the default; going over it logs a warning. Outside production the count can also be sent
+ * back in {@value #QUERY_COUNT_HEADER}, see {@link QueryCountHeaderAdvice}.
+ *
+ * <p>Runs ahead of security, so principal lookups are counted.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    private static final Logger log = LoggerFactory.getLogger(RequestMetricsFilter.class);
+
+    private static final String BUDGET_PREFIX = "caregiverapp.query-budget.endpoints.";
+
+    private final MeterRegistry registry;
+    private final Environment environment;
+    private final double sampleRate;
+    private final boolean queryCountHeader;
+    private final int defaultBudget;
+
+    private final Map<String, Integer> budgets = new ConcurrentHashMap<>();
+
+    public RequestMetricsFilter(
+            MeterRegistry registry,
+            Environment environment,
+            @Value("${caregiverapp.metrics.request-log.sample-rate:0.01}") double sampleRate,
+            @Value("${caregiverapp.query-budget.header:false}") boolean queryCountHeader,
+            @Value("${caregiverapp.query-budget.default:10}") int defaultBudget
+    ) {
+        this.registry = registry;
+        this.environment = environment;
+        this.sampleRate = sampleRate;
+        this.queryCountHeader = queryCountHeader;
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        long start = System.nanoTime();
+        RequestSqlCounter.Counts counts = RequestSqlCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlCounter.stop();
+            // responses with a body already got it from QueryCountHeaderAdvice
+            if (queryCountHeader && !response.isCommitted()) {
+                response.setHeader(QUERY_COUNT_HEADER, String.valueOf(counts.statements()));
+            }
+            record(request, response, counts, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * The controller method that handled the request, as {@code Controller.method}.
+     */
+    static String handlerName(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        return handler instanceof HandlerMethod method
+                ? method.getBeanType().getSimpleName() + "." + method.getMethod().getName()
+                : "none";
+    }
+
+    private void record(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            RequestSqlCounter.Counts counts,
+            long elapsedNanos
+    ) {
+        String uri = uriTemplate(request);
+        String handler = handlerName(request);
+
+        summary("request.sql.statements", request.getMethod(), uri).record(counts.statements());
+        summary("request.sql.rows", request.getMethod(), uri).record(counts.rows());
+
+        int budget = budgets.computeIfAbsent(handler, name ->
+                environment.getProperty(BUDGET_PREFIX + name, Integer.class, defaultBudget));
+
+        if (counts.statements() > budget) {
+            Counter.builder("request.sql.budget.exceeded")
+                    .tag("handler", handler)
+                    .register(registry)
+                    .increment();
+            log.warn(
+                    "query budget exceeded handler={} method={} uri={} statements={} budget={}",
+                    handler, request.getMethod(), uri, counts.statements(), budget
+            );
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.info(
+                    "request method={} uri={} status={} durationMs={} statements={} rows={}",
+                    request.getMethod(), uri, response.getStatus(),
+                    elapsedNanos / 1_000_000, counts.statements(), counts.rows()
+            );
+        }
+    }
+
+    private DistributionSummary summary(String name, String method, String uri) {
+        return DistributionSummary.builder(name)
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(1_000.0)
+                .register(registry);
+    }
+
+    private static String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.caregiverapp.config;
+
+/**
+ * SQL work done by the current request thread, fed by {@link CountingStatistics}. Only the
+ * owning thread writes its counts, so they are plain fields.
+ */
+public final class RequestSqlCounter {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private RequestSqlCounter() {}
+
+    public static Counts start() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Counts of the request running on this thread, or {@code null} outside one.
+     */
+    public static Counts current() {
+        return CURRENT.get();
+    }
+
+    static void statementPrepared() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+    }
+
+    static void rowsFetched(long rows) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.rows += rows;
+        }
+    }
+
+    public static final class Counts {
+
+        private long statements;
+        private long rows;
+
+        public long statements() {
+            return statements;
+        }
+
+        public long rows() {
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.caregiverapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wraps the application's data source, the one JPA, JdbcTemplate and Flyway share, in a
+ * {@link SlowQueryDataSource}. With the replica configured that is the routing proxy, so
+ * statements on either pool are recorded.
+ *
+ * <p>Plans are fetched over a pool of their own: one connection to the primary, opened on the
+ * first slow statement, so EXPLAIN never competes with requests for application connections.
+ */
+@Configuration
+public class SlowQueryConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    // static: post-processors are created before the other beans of this class
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                        && DATA_SOURCE_BEAN.equals(beanName)
+                        && recorder.getObject().isEnabled()) {
+                    return new SlowQueryDataSource(dataSource, recorder.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SlowQueryRecorder slowQueryRecorder(
+            DataSourceProperties properties,
+            @Value("${caregiverapp.slow-query.enabled:true}") boolean enabled,
+            @Value("${caregiverapp.slow-query.threshold:500ms}") Duration threshold,
+            @Value("${caregiverapp.slow-query.capacity:100}") int capacity
+    ) {
+        // not a bean: a second DataSource would switch off the auto-configured pool
+        HikariDataSource explain = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        explain.setPoolName("slow-query-explain");
+        explain.setMaximumPoolSize(1);
+        explain.setMinimumIdle(0);
+        explain.setConnectionTimeout(1000);
+        explain.setReadOnly(true);
+        return new SlowQueryRecorder(enabled, threshold, capacity, explain);
+    }
+}
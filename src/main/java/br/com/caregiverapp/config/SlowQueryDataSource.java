@@ -0,0 +1,116 @@
+package br.com.caregiverapp.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Times every statement run through its connections and hands the ones over the threshold,
+ * with their bound values, to {@link SlowQueryRecorder}. Connections and statements are JDK
+ * proxies that only add a clock read around {@code execute*}; parameters are kept per
+ * statement until it is cleared.
+ */
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch"
+    );
+
+    private final SlowQueryRecorder recorder;
+
+    public SlowQueryDataSource(DataSource target, SlowQueryRecorder recorder) {
+        super(target);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection connection(Connection target) {
+        return proxy(Connection.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                return statement(PreparedStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof Statement statement && method.getName().equals("createStatement")) {
+                return statement(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    private <S extends Statement> S statement(Class<S> type, S target, String preparedSql) {
+        List<Object> parameters = new ArrayList<>();
+
+        return proxy(type, target, (proxy, method, args) -> {
+            String name = method.getName();
+
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(parameters, index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (EXECUTE.contains(name)) {
+                long start = System.nanoTime();
+                Object result = invoke(target, method, args);
+                long elapsed = System.nanoTime() - start;
+
+                if (recorder.isSlow(elapsed)) {
+                    if (preparedSql != null) {
+                        recorder.record(preparedSql, parameters, elapsed);
+                    } else {
+                        String sql = args != null && args.length > 0 ? (String) args[0] : "(batch)";
+                        recorder.record(sql, List.of(), elapsed);
+                    }
+                }
+                return result;
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private static void bind(List<Object> parameters, int index, Object value) {
+        while (parameters.size() < index) {
+            parameters.add(null);
+        }
+        parameters.set(index - 1, value);
+    }
+
+    // identity equality, as for the connection pool's own proxies
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        InvocationHandler withIdentity = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> handler.invoke(proxy, method, args);
+        };
+        return (T) Proxy.newProxyInstance(
+                SlowQueryDataSource.class.getClassLoader(), new Class<?>[]{type}, withIdentity
+        );
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
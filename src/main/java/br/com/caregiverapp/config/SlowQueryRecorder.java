@@ -0,0 +1,201 @@
+package br.com.caregiverapp.config;
+
+import br.com.caregiverapp.domain.dto.SlowQueryResponse;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keeps the last {@code capacity} statements slower than {@code threshold}, fed by
+ * {@link SlowQueryDataSource}, for {@code GET /api/admin/slow-queries}.
+ *
+ * <p>Parameters are redacted to their type. The plan comes from {@code EXPLAIN (ANALYZE off)}
+ * with the original values, run on a single background thread over {@code explainDataSource},
+ * which must not be the application's pool; when that thread falls behind, plans are skipped,
+ * not queued.
+ */
+public class SlowQueryRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryRecorder.class);
+
+    private static final String REPOSITORY_PACKAGE = "br.com.caregiverapp.repository";
+    private static final String APPLICATION_PACKAGE = "br.com.caregiverapp.";
+    private static final Set<String> EXPLAINABLE = Set.of("select", "with", "update", "delete");
+    private static final int EXPLAIN_TIMEOUT_SECONDS = 5;
+
+    private final boolean enabled;
+    private final long thresholdNanos;
+    private final AtomicReferenceArray<SlowQueryResponse> recent;
+    private final AtomicLong recorded = new AtomicLong();
+    private final DataSource explainDataSource;
+    private final ThreadPoolExecutor explainer;
+
+    /**
+     * @param explainDataSource where plans are fetched, or {@code null} to record without plans;
+     *                          closed on shutdown when it is {@link AutoCloseable}
+     */
+    public SlowQueryRecorder(boolean enabled, Duration threshold, int capacity, DataSource explainDataSource) {
+        this.enabled = enabled;
+        this.explainDataSource = explainDataSource;
+        this.thresholdNanos = threshold.toNanos();
+        this.recent = new AtomicReferenceArray<>(capacity);
+        this.explainer = new ThreadPoolExecutor(
+                1,
+                1,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy()
+        );
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    /**
+     * Records a slow statement. Called on the thread that ran the statement, so the caller can
+     * be read off its stack.
+     */
+    public void record(String sql, List<Object> parameters, long elapsedNanos) {
+        SlowQueryResponse query = new SlowQueryResponse(
+                Instant.now(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                caller(),
+                sql,
+                parameters.stream().map(SlowQueryRecorder::redact).toList(),
+                null
+        );
+
+        int slot = (int) (recorded.getAndIncrement() % recent.length());
+        recent.set(slot, query);
+        log.warn("slow query durationMs={} caller={} sql={}", query.durationMillis(), query.caller(), sql);
+
+        if (explainDataSource != null && isExplainable(sql)) {
+            List<Object> values = new ArrayList<>(parameters);
+            explainer.execute(() -> {
+                String plan = explain(explainDataSource, sql, values);
+                // unless the slot has been reused meanwhile
+                recent.compareAndSet(slot, query, query.withPlan(plan));
+            });
+        }
+    }
+
+    /**
+     * Newest first.
+     */
+    public List<SlowQueryResponse> recent() {
+        long last = recorded.get();
+        int count = (int) Math.min(last, recent.length());
+        List<SlowQueryResponse> queries = new ArrayList<>(count);
+        for (long i = last - 1; i >= last - count; i--) {
+            SlowQueryResponse query = recent.get((int) (i % recent.length()));
+            if (query != null) {
+                queries.add(query);
+            }
+        }
+        return queries;
+    }
+
+    public long recordedCount() {
+        return recorded.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        explainer.shutdownNow();
+        if (explainDataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.debug("closing the explain data source failed", e);
+            }
+        }
+    }
+
+    private static String explain(DataSource dataSource, String sql, List<Object> parameters) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN (ANALYZE off) " + sql)) {
+            statement.setQueryTimeout(EXPLAIN_TIMEOUT_SECONDS);
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    if (!plan.isEmpty()) {
+                        plan.append('\n');
+                    }
+                    plan.append(rows.getString(1));
+                }
+            }
+            return plan.toString();
+        } catch (SQLException e) {
+            return "EXPLAIN failed: " + e.getMessage();
+        }
+    }
+
+    private static boolean isExplainable(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return EXPLAINABLE.contains(trimmed.substring(0, end).toLowerCase(Locale.ROOT));
+    }
+
+    // the repository method when the statement ran under one, else the first application frame
+    private static String caller() {
+        return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE).walk(frames -> {
+            String application = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                Class<?> type = frame.getDeclaringClass();
+                if (Proxy.isProxyClass(type)) {
+                    for (Class<?> contract : type.getInterfaces()) {
+                        if (contract.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                            return contract.getSimpleName() + "." + frame.getMethodName();
+                        }
+                    }
+                } else if (application == null
+                        && type.getName().startsWith(APPLICATION_PACKAGE)
+                        && type.getNestHost() != SlowQueryRecorder.class
+                        && type.getNestHost() != SlowQueryDataSource.class) {
+                    application = type.getSimpleName() + "." + frame.getMethodName();
+                }
+            }
+            return application != null ? application : "unknown";
+        });
+    }
+
+    // values can be personal data whatever their type, so only the type is kept
+    static String redact(Object value) {
+        return value == null ? "null" : "<" + value.getClass().getSimpleName() + ">";
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.caregiverapp.config;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier, typically inside a
+ * {@code synchronized} block or a native frame, from the JDK's own {@code jdk.VirtualThreadPinned}
+ * flight recorder event. Each distinct stack is logged once; all occurrences are counted.
+ * On by default only in virtual-thread mode.
+ */
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+    private static final int MAX_REPORTED_STACKS = 1_000;
+
+    private final boolean enabled;
+    private final Duration threshold;
+
+    private final Set<String> reportedStacks = ConcurrentHashMap.newKeySet();
+    private final LongAdder pinned = new LongAdder();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${caregiverapp.virtual-threads.pinning-monitor.enabled:${spring.threads.virtual.enabled:false}}")
+            boolean enabled,
+            @Value("${caregiverapp.virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold
+    ) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Reporting virtual threads pinned for more than {}", threshold);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    public long getPinnedCount() {
+        return pinned.sum();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+
+        String stack = event.getStackTrace() == null
+                ? "(no stack trace)"
+                : event.getStackTrace().getFrames().stream()
+                        .limit(LOGGED_FRAMES)
+                        .map(VirtualThreadPinningMonitor::describe)
+                        .collect(Collectors.joining("\n\tat ", "\tat ", ""));
+
+        if (reportedStacks.size() < MAX_REPORTED_STACKS && reportedStacks.add(stack)) {
+            log.warn(
+                    "Virtual thread {} pinned its carrier for {} ms\n{}",
+                    event.getThread() != null ? event.getThread().getJavaName() : "?",
+                    event.getDuration().toMillis(),
+                    stack
+            );
+        }
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
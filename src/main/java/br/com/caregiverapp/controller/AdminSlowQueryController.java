@@ -0,0 +1,23 @@
+package br.com.caregiverapp.controller;
+
+import br.com.caregiverapp.config.SlowQueryRecorder;
+import br.com.caregiverapp.domain.dto.SlowQueryResponse;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/slow-queries")
+public class AdminSlowQueryController {
+
+    private final SlowQueryRecorder slowQueryRecorder;
+
+    public AdminSlowQueryController(SlowQueryRecorder slowQueryRecorder) {
+        this.slowQueryRecorder = slowQueryRecorder;
+    }
+
+    @GetMapping
+    public List<SlowQueryResponse> recent() {
+        return slowQueryRecorder.recent();
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.caregiverapp.controller;
+
+import br.com.caregiverapp.domain.dto.BulkRegisterResponse;
+import br.com.caregiverapp.domain.dto.RegisterRequest;
+import br.com.caregiverapp.service.UserBulkRegistrationService;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/users")
+public class AdminUserController {
+
+    private final UserBulkRegistrationService bulkRegistrationService;
+
+    public AdminUserController(UserBulkRegistrationService bulkRegistrationService) {
+        this.bulkRegistrationService = bulkRegistrationService;
+    }
+
+    @PostMapping("/bulk")
+    public BulkRegisterResponse bulkRegister(
+            @RequestBody List<RegisterRequest> requests
+    ) {
+        return bulkRegistrationService.register(requests);
+    }
+}
@@ -5,9 +5,12 @@ import br.com.caregiverapp.domain.dto.CareRequestApplicationResponse;
 import br.com.caregiverapp.service.CareRequestApplicationService;
 import br.com.caregiverapp.service.CareRequestAssignmentService;
 import br.com.caregiverapp.service.CareRequestQueryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -19,25 +22,38 @@ public class CareRequestApplicationController {
     private final CareRequestApplicationService service;
     private final CareRequestQueryService queryService;
     private final CareRequestAssignmentService assignmentService;
+    private final ObjectMapper objectMapper;
 
     public CareRequestApplicationController(
             CareRequestApplicationService service,
             CareRequestQueryService queryService,
-            CareRequestAssignmentService assignmentService
+            CareRequestAssignmentService assignmentService,
+            ObjectMapper objectMapper
     ) {
         this.service = service;
         this.queryService = queryService;
         this.assignmentService = assignmentService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/{careRequestId}/applications")
     public List<CareRequestApplicationResponse> listApplications(
             @PathVariable UUID careRequestId
     ) {
-        return queryService.listApplicants(careRequestId)
-                .stream()
-                .map(CareRequestApplicationResponse::from)
-                .toList();
+        return queryService.listApplications(careRequestId);
+    }
+
+    @GetMapping(value = "/{careRequestId}/applications", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamApplications(
+            @PathVariable UUID careRequestId
+    ) {
+        // checked up front: once streaming starts the status can no longer change
+        queryService.checkExists(careRequestId);
+
+        return NdjsonResponse.<CareRequestApplicationResponse>of(
+                objectMapper,
+                sink -> queryService.streamApplicants(careRequestId, sink)
+        );
     }
 
     @PostMapping("/{careRequestId}/apply")
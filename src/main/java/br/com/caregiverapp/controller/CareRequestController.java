@@ -1,24 +1,57 @@
 package br.com.caregiverapp.controller;
 
 import br.com.caregiverapp.domain.dto.CareRequestResponse;
+import br.com.caregiverapp.domain.dto.CareScheduleFilter;
 import br.com.caregiverapp.domain.dto.CreateCareRequestRequest;
+import br.com.caregiverapp.domain.dto.CursorPage;
+import br.com.caregiverapp.domain.dto.NearbyResult;
 import br.com.caregiverapp.domain.model.CareRequest;
+import br.com.caregiverapp.service.CareRequestChangeTracker;
+import br.com.caregiverapp.service.CareRequestQueryService;
+import br.com.caregiverapp.service.CareRequestResponseCache;
 import br.com.caregiverapp.service.CareRequestService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("api/care-requests")
 public class CareRequestController {
 
+    // clients may keep the response but must revalidate it; overrides Spring Security's no-store
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final CareRequestService service;
+    private final CareRequestQueryService queryService;
+    private final CareRequestChangeTracker changeTracker;
+    private final CareRequestResponseCache responseCache;
+    private final ObjectMapper objectMapper;
 
-    public CareRequestController(CareRequestService service) {
+    public CareRequestController(
+            CareRequestService service,
+            CareRequestQueryService queryService,
+            CareRequestChangeTracker changeTracker,
+            CareRequestResponseCache responseCache,
+            ObjectMapper objectMapper
+    ) {
         this.service = service;
+        this.queryService = queryService;
+        this.changeTracker = changeTracker;
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -31,25 +64,121 @@ public class CareRequestController {
                 .body(CareRequestResponse.from(careRequest));
     }
 
+    /**
+     * Answers 304 from the location's change counter before the listing is read, and serves
+     * unfiltered pages from {@link CareRequestResponseCache}. Listings shaped by the caller's
+     * own profile ({@code matchAvailability}) are neither conditional nor cached.
+     */
     @GetMapping
-    public List<CareRequestResponse> listOpen(
+    public ResponseEntity<?> listOpen(
             @RequestParam(required = false) String city,
-            @RequestParam(required = false) String state
+            @RequestParam(required = false) String state,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime windowStart,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime windowEnd,
+            @RequestParam(defaultValue = "false") boolean matchAvailability,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest
     ) {
-        return service.listOpenByLocation(city, state)
-                .stream()
-                .map(CareRequestResponse::from)
-                .toList();
+        CareRequestChangeTracker.ListingVersion version = changeTracker.version(city, state);
+        String etag = matchAvailability ? null : version.tag();
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        CareScheduleFilter schedule = new CareScheduleFilter(from, to, windowStart, windowEnd);
+        Supplier<CursorPage<CareRequestResponse>> page = () ->
+                service.listOpenByLocation(city, state, q, schedule, matchAvailability, cursor, limit, version);
+
+        if (etag == null) {
+            return ResponseEntity.ok(page.get());
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .eTag(etag);
+
+        boolean cacheable = responseCache.isEnabled() && (q == null || q.isBlank()) && schedule.isEmpty();
+        if (!cacheable) {
+            return response.body(page.get());
+        }
+
+        CareRequestResponseCache.Entry encoded = responseCache.get(
+                CareRequestResponseCache.key(etag, city, state, cursor, limit), page
+        );
+        boolean gzip = acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        response.contentType(MediaType.APPLICATION_JSON).varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? encoded.gzip() : encoded.json());
+    }
+
+    /**
+     * Every matching open request as NDJSON, for integrations that sync the full list.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamOpen(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String state,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime windowStart,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime windowEnd
+    ) {
+        CareScheduleFilter schedule = new CareScheduleFilter(from, to, windowStart, windowEnd);
+        // checked up front: once streaming starts the status can no longer change
+        queryService.checkSchedule(schedule);
+
+        return NdjsonResponse.<CareRequestResponse>of(
+                objectMapper,
+                sink -> queryService.streamOpenByLocation(city, state, schedule, sink)
+        );
+    }
+
+    @GetMapping("/nearby")
+    public List<NearbyResult<CareRequestResponse>> listOpenNearby(
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return service.listOpenNearby(lat, lng, radiusKm, limit);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<CareRequestResponse> getById(
-            @PathVariable UUID id
+            @PathVariable UUID id,
+            WebRequest webRequest
     ) {
+        // only a conditional request pays for the version lookup
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(CareRequestChangeTracker.versionTag(service.getVersion(id)))) {
+            return null;
+        }
+
         CareRequest careRequest = service.getById(id);
 
-        return ResponseEntity.ok(
-                CareRequestResponse.from(careRequest)
-        );
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .eTag(CareRequestChangeTracker.versionTag(careRequest.getVersion()))
+                .body(CareRequestResponse.from(careRequest));
     }
 }
@@ -21,9 +21,6 @@ public class CareRequestQueryController {
     public List<CaregiverApplicantResponse> listApplicants(
             @PathVariable UUID careRequestId
     ) {
-        return service.listApplicants(careRequestId)
-                .stream()
-                .map(CaregiverApplicantResponse::from)
-                .toList();
+        return service.listApplicants(careRequestId);
     }
 }
@@ -5,28 +5,49 @@ import br.com.caregiverapp.domain.dto.CaregiverProfileResponse;
 import br.com.caregiverapp.domain.dto.CreateCaregiverProfileRequest;
 import br.com.caregiverapp.domain.dto.UpdateCaregiverProfileRequest;
 import br.com.caregiverapp.domain.model.CaregiverProfile;
+import br.com.caregiverapp.security.JwtService;
+import br.com.caregiverapp.service.AuthService;
+import br.com.caregiverapp.service.CareRequestQueryService;
 import br.com.caregiverapp.service.CaregiverProfileService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/caregiver")
 public class CaregiverProfileController {
 
     private final CaregiverProfileService service;
+    private final AuthService authService;
+    private final CareRequestQueryService queryService;
+    private final ObjectMapper objectMapper;
 
-    public CaregiverProfileController(CaregiverProfileService service) {
+    public CaregiverProfileController(
+            CaregiverProfileService service,
+            AuthService authService,
+            CareRequestQueryService queryService,
+            ObjectMapper objectMapper
+    ) {
         this.service = service;
+        this.authService = authService;
+        this.queryService = queryService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping("/profile")
     public ResponseEntity<CaregiverProfileResponse> create( @RequestBody CreateCaregiverProfileRequest request) {
         CaregiverProfile profile = service.createProfile(request);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(CaregiverProfileResponse.from(profile));
+        // the previous token has no profile id, hand out one that does
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(JwtService.TOKEN_HEADER, authService.issueToken(profile.getUser(), profile.getId()))
+                .body(CaregiverProfileResponse.from(profile));
     }
     @GetMapping("/profile")
     public CaregiverProfileResponse getProfile() {
@@ -40,9 +61,17 @@ public class CaregiverProfileController {
 
     @GetMapping("/applications")
     public List<CareRequestApplicationResponse> listApplications() {
-        return service.listApplications()
-                .stream()
-                .map(CareRequestApplicationResponse::from)
-                .toList();
+        return service.listApplications();
+    }
+
+    @GetMapping(value = "/applications", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamApplications() {
+        // resolved here: the security context is not available on the streaming thread
+        UUID profileId = service.getProfileId();
+
+        return NdjsonResponse.<CareRequestApplicationResponse>of(
+                objectMapper,
+                sink -> queryService.streamCaregiverApplications(profileId, sink)
+        );
     }
 }
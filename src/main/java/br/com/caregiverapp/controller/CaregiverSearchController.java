@@ -0,0 +1,32 @@
+package br.com.caregiverapp.controller;
+
+import br.com.caregiverapp.domain.dto.CaregiverProfileResponse;
+import br.com.caregiverapp.domain.dto.NearbyResult;
+import br.com.caregiverapp.service.CaregiverProfileService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/caregivers")
+public class CaregiverSearchController {
+
+    private final CaregiverProfileService service;
+
+    public CaregiverSearchController(CaregiverProfileService service) {
+        this.service = service;
+    }
+
+    @GetMapping("/nearby")
+    public List<NearbyResult<CaregiverProfileResponse>> findNearby(
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return service.findNearby(lat, lng, radiusKm, limit);
+    }
+}
@@ -2,24 +2,31 @@ package br.com.caregiverapp.controller;
 
 import br.com.caregiverapp.domain.dto.CareRequestResponse;
 import br.com.caregiverapp.domain.dto.CreateElderProfileRequest;
+import br.com.caregiverapp.domain.dto.CursorPage;
 import br.com.caregiverapp.domain.dto.ElderProfileResponse;
 import br.com.caregiverapp.domain.dto.UpdateElderProfileRequest;
-import br.com.caregiverapp.domain.model.CareRequest;
+import br.com.caregiverapp.domain.model.ElderProfile;
+import br.com.caregiverapp.security.JwtService;
+import br.com.caregiverapp.service.AuthService;
 import br.com.caregiverapp.service.ElderProfileService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/elder")
 public class ElderProfileController {
 
     private final ElderProfileService service;
+    private final AuthService authService;
 
-    public ElderProfileController(ElderProfileService service) {
+    public ElderProfileController(
+            ElderProfileService service,
+            AuthService authService
+    ) {
         this.service = service;
+        this.authService = authService;
     }
 
     @GetMapping("/profile")
@@ -33,8 +40,12 @@ public class ElderProfileController {
     public ResponseEntity<ElderProfileResponse> create(
             @RequestBody CreateElderProfileRequest request
     ) {
+        ElderProfile profile = service.create(request);
+
+        // the previous token has no profile id, hand out one that does
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ElderProfileResponse.from(service.create(request)));
+                .header(JwtService.TOKEN_HEADER, authService.issueToken(profile.getUser(), profile.getId()))
+                .body(ElderProfileResponse.from(profile));
     }
 
     @PutMapping("/profile")
@@ -47,7 +58,10 @@ public class ElderProfileController {
     }
 
     @GetMapping("/care-requests")
-    public List<CareRequestResponse> getMyRequests() {
-        return service.getMyRequests();
+    public CursorPage<CareRequestResponse> getMyRequests(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return service.getMyRequests(cursor, limit);
     }
 }
@@ -0,0 +1,69 @@
+package br.com.caregiverapp.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * {@code application/x-ndjson} body written one record per line while {@code producer} reads
+ * them. The first line is flushed at once, later ones in batches.
+ */
+final class NdjsonResponse {
+
+    private static final int FLUSH_EVERY = 100;
+
+    private NdjsonResponse() {}
+
+    static <T> ResponseEntity<StreamingResponseBody> of(
+            ObjectMapper objectMapper,
+            Consumer<Consumer<T>> producer
+    ) {
+        ObjectWriter writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                producer.accept(new LineWriter<>(writer, generator));
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private static final class LineWriter<T> implements Consumer<T> {
+
+        private final ObjectWriter writer;
+        private final JsonGenerator generator;
+        private long written;
+
+        LineWriter(ObjectWriter writer, JsonGenerator generator) {
+            this.writer = writer;
+            this.generator = generator;
+        }
+
+        @Override
+        public void accept(T record) {
+            try {
+                writer.writeValue(generator, record);
+                generator.writeRaw('\n');
+
+                if (++written == 1 || written % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
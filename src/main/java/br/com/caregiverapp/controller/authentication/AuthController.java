@@ -4,7 +4,7 @@ import br.com.caregiverapp.domain.dto.AuthRequest;
 import br.com.caregiverapp.domain.dto.AuthResponse;
 import br.com.caregiverapp.domain.dto.RegisterRequest;
 import br.com.caregiverapp.domain.dto.UserResponse;
-import br.com.caregiverapp.domain.model.User;
+import br.com.caregiverapp.security.UserPrincipal;
 import br.com.caregiverapp.service.AuthService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -47,14 +47,14 @@ public class AuthController {
 
     @GetMapping("/me")
     public ResponseEntity<UserResponse> me() {
-        User user = authService.getCurrentUser();
+        UserPrincipal user = authService.getCurrentPrincipal();
 
         return ResponseEntity.ok(
                 new UserResponse(
-                        user.getId(),
-                        user.getEmail(),
-                        user.getFullName(),
-                        user.getRole()
+                        user.id(),
+                        user.email(),
+                        user.fullName(),
+                        user.role()
                 )
         );
     }
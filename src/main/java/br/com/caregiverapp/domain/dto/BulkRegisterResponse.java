@@ -0,0 +1,9 @@
+package br.com.caregiverapp.domain.dto;
+
+import java.util.List;
+
+public record BulkRegisterResponse(
+        int created,
+        int failed,
+        List<BulkRegisterResult> results
+) {}
@@ -0,0 +1,17 @@
+package br.com.caregiverapp.domain.dto;
+
+import java.util.UUID;
+
+public record BulkRegisterResult(
+        int index,
+        String email,
+        Status status,
+        UUID userId,
+        String error
+) {
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+}
@@ -3,6 +3,7 @@ package br.com.caregiverapp.domain.dto;
 import br.com.caregiverapp.domain.model.CareRequestApplication;
 
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 public record CareRequestApplicationResponse(
@@ -17,6 +18,27 @@ public record CareRequestApplicationResponse(
         String message,
         String appliedAt
 ) {
+    /**
+     * Projection constructor for repository queries selecting the columns directly.
+     */
+    public CareRequestApplicationResponse(
+            UUID id,
+            UUID careRequestId,
+            UUID caregiverProfileId,
+            String caregiverName,
+            String caregiverBio,
+            Integer yearsOfExperience,
+            BigDecimal hourlyRate,
+            String status,
+            String message,
+            OffsetDateTime appliedAt
+    ) {
+        this(
+                id, careRequestId, caregiverProfileId, caregiverName, caregiverBio,
+                yearsOfExperience, hourlyRate, status, message, appliedAt.toString()
+        );
+    }
+
     public static CareRequestApplicationResponse from(
             CareRequestApplication application
     ) {
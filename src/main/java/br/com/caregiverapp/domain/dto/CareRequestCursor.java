@@ -0,0 +1,50 @@
+package br.com.caregiverapp.domain.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position after the last row of a page, in the listing order (care_date, created_at, id).
+ */
+public record CareRequestCursor(
+        LocalDate careDate,
+        OffsetDateTime createdAt,
+        UUID id
+) {
+    private static final String SEPARATOR = "|";
+
+    public static CareRequestCursor after(CareRequestRow row) {
+        return new CareRequestCursor(
+                row.careDate(),
+                row.createdAt(),
+                row.id()
+        );
+    }
+
+    public static CareRequestCursor decode(String value) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+
+            return new CareRequestCursor(
+                    LocalDate.parse(parts[0]),
+                    OffsetDateTime.parse(parts[1]),
+                    UUID.fromString(parts[2])
+            );
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = careDate + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -13,19 +13,27 @@ public record CareRequestResponse(
         String endTime,
         String city,
         String state,
+        Double latitude,
+        Double longitude,
         String status
 ) {
     public static CareRequestResponse from(CareRequest careRequest) {
+        return from(CareRequestRow.of(careRequest));
+    }
+
+    public static CareRequestResponse from(CareRequestRow row) {
         return new CareRequestResponse(
-                careRequest.getId(),
-                careRequest.getElderProfile().getId(),
-                careRequest.getDescription(),
-                careRequest.getCareDate().toString(),
-                careRequest.getStartTime().toString(),
-                careRequest.getEndTime().toString(),
-                careRequest.getCity(),
-                careRequest.getState(),
-                careRequest.getStatus().name()
+                row.id(),
+                row.elderProfileId(),
+                row.description(),
+                row.careDate().toString(),
+                row.startTime().toString(),
+                row.endTime().toString(),
+                row.city(),
+                row.state(),
+                row.latitude(),
+                row.longitude(),
+                row.status().name()
         );
     }
 }
@@ -0,0 +1,45 @@
+package br.com.caregiverapp.domain.dto;
+
+import br.com.caregiverapp.domain.model.CareRequest;
+import br.com.caregiverapp.domain.model.CareRequestStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Columns of a care request the listings need, selected straight from {@code care_requests}
+ * without loading the entity or any of its associations.
+ */
+public record CareRequestRow(
+        UUID id,
+        UUID elderProfileId,
+        String description,
+        LocalDate careDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        String city,
+        String state,
+        Double latitude,
+        Double longitude,
+        CareRequestStatus status,
+        OffsetDateTime createdAt
+) {
+    public static CareRequestRow of(CareRequest careRequest) {
+        return new CareRequestRow(
+                careRequest.getId(),
+                careRequest.getElderProfile().getId(),
+                careRequest.getDescription(),
+                careRequest.getCareDate(),
+                careRequest.getStartTime(),
+                careRequest.getEndTime(),
+                careRequest.getCity(),
+                careRequest.getState(),
+                careRequest.getLatitude(),
+                careRequest.getLongitude(),
+                careRequest.getStatus(),
+                careRequest.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.caregiverapp.domain.dto;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position after the last row of a search page, in the search order (rank desc, id).
+ */
+public record CareRequestSearchCursor(
+        float rank,
+        UUID id
+) {
+    private static final String SEPARATOR = "|";
+
+    public static CareRequestSearchCursor decode(String value) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+
+            return new CareRequestSearchCursor(
+                    Float.parseFloat(parts[0]),
+                    UUID.fromString(parts[1])
+            );
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = rank + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.caregiverapp.domain.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Optional schedule constraints on the open listing: care date within [from, to], and the
+ * request's start/end times inside the same-day window [windowStart, windowEnd].
+ * Null bounds are not applied. Bounds are checked by the listing services.
+ */
+public record CareScheduleFilter(
+        LocalDate from,
+        LocalDate to,
+        LocalTime windowStart,
+        LocalTime windowEnd
+) {
+    public static final CareScheduleFilter NONE = new CareScheduleFilter(null, null, null, null);
+
+    public CareScheduleFilter withWindow(LocalTime windowStart, LocalTime windowEnd) {
+        return new CareScheduleFilter(from, to, windowStart, windowEnd);
+    }
+
+    public boolean isEmpty() {
+        return from == null && to == null && windowStart == null && windowEnd == null;
+    }
+
+    public boolean matches(LocalDate careDate, LocalTime startTime, LocalTime endTime) {
+        return (from == null || !careDate.isBefore(from))
+                && (to == null || !careDate.isAfter(to))
+                && (windowStart == null || !startTime.isBefore(windowStart))
+                && (windowEnd == null || !endTime.isAfter(windowEnd));
+    }
+}
@@ -1,8 +1,10 @@
 package br.com.caregiverapp.domain.dto;
 
 import br.com.caregiverapp.domain.model.CareRequestApplication;
+import br.com.caregiverapp.domain.model.CaregiverProfile;
 
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,6 +19,26 @@ public record CaregiverApplicantResponse(
         List<String> skills,
         String appliedAt
 ) {
+    /**
+     * Projection constructor for repository queries selecting the columns directly.
+     */
+    public CaregiverApplicantResponse(
+            UUID caregiverProfileId,
+            UUID userId,
+            String fullName,
+            Integer yearsOfExperience,
+            BigDecimal hourlyRate,
+            String city,
+            String state,
+            String skills,
+            OffsetDateTime appliedAt
+    ) {
+        this(
+                caregiverProfileId, userId, fullName, yearsOfExperience, hourlyRate, city, state,
+                CaregiverProfile.skillsAsList(skills), appliedAt.toString()
+        );
+    }
+
     public static CaregiverApplicantResponse from(
             CareRequestApplication application
     ) {
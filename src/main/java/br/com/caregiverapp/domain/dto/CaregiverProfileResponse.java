@@ -15,6 +15,8 @@ public record CaregiverProfileResponse(
         String availableTo,
         String city,
         String state,
+        Double latitude,
+        Double longitude,
         List<String> skills
 ) {
     public static CaregiverProfileResponse from(CaregiverProfile profile) {
@@ -28,6 +30,8 @@ public record CaregiverProfileResponse(
                 profile.getAvailableTo() != null ? profile.getAvailableTo().toString() : null,
                 profile.getCity(),
                 profile.getState(),
+                profile.getLatitude(),
+                profile.getLongitude(),
                 profile.getSkillsAsList()
         );
     }
@@ -9,5 +9,7 @@ public record CreateCareRequestRequest(
         LocalTime startTime,
         LocalTime endTime,
         String city,
-        String state
+        String state,
+        Double latitude,
+        Double longitude
 ) {}
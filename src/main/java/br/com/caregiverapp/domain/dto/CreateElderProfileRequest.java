@@ -8,5 +8,7 @@ public record CreateElderProfileRequest(
         String emergencyPhone,
         String address,
         String city,
-        String state
+        String state,
+        Double latitude,
+        Double longitude
 ) {}
@@ -0,0 +1,29 @@
+package br.com.caregiverapp.domain.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. {@code next} is opaque to clients and
+ * is {@code null} on the last page.
+ */
+public record CursorPage<T>(
+        List<T> items,
+        String next
+) {
+    /**
+     * Builds a page from {@code rows} fetched with {@code limit + 1}: the extra row only
+     * signals that another page exists.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, String> cursorOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPage<>(items, cursorOf.apply(items.get(limit - 1)));
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPage<>(items.stream().<R>map(mapper).toList(), next);
+    }
+}
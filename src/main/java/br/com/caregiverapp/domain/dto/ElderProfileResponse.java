@@ -12,7 +12,9 @@ public record ElderProfileResponse(
         String medicalConditions,
         String mobilityLevel,
         String city,
-        String state
+        String state,
+        Double latitude,
+        Double longitude
 ) {
     public static ElderProfileResponse from(ElderProfile profile) {
         return new ElderProfileResponse(
@@ -23,7 +25,9 @@ public record ElderProfileResponse(
                 profile.getMedicalConditions(),
                 profile.getMobilityLevel(),
                 profile.getCity(),
-                profile.getState()
+                profile.getState(),
+                profile.getLatitude(),
+                profile.getLongitude()
         );
     }
 }
@@ -0,0 +1,3 @@
+package br.com.caregiverapp.domain.dto;
+
+public record NearbyResult<T>(T item, double distanceKm) {}
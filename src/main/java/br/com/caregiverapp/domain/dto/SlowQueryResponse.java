@@ -0,0 +1,22 @@
+package br.com.caregiverapp.domain.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A statement that ran over the slow-query threshold. {@code plan} is {@code null} until the
+ * EXPLAIN has run, and stays so for statements that are not explained (inserts, DDL).
+ */
+public record SlowQueryResponse(
+        Instant executedAt,
+        long durationMillis,
+        String caller,
+        String sql,
+        List<String> parameters,
+        String plan
+) {
+
+    public SlowQueryResponse withPlan(String plan) {
+        return new SlowQueryResponse(executedAt, durationMillis, caller, sql, parameters, plan);
+    }
+}
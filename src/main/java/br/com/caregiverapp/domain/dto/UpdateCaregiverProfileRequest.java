@@ -12,5 +12,7 @@ public record UpdateCaregiverProfileRequest(
         LocalTime availableTo,
         String city,
         String state,
-        List<String> skills
+        List<String> skills,
+        Double latitude,
+        Double longitude
 ) {}
@@ -21,5 +21,9 @@ public record UpdateElderProfileRequest(
         String city,
 
         @Size(max = 2)
-        String state
+        String state,
+
+        Double latitude,
+
+        Double longitude
 ) {}
\ No newline at end of file
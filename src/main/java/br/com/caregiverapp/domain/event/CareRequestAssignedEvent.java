@@ -0,0 +1,9 @@
+package br.com.caregiverapp.domain.event;
+
+import java.util.UUID;
+
+public record CareRequestAssignedEvent(
+        UUID careRequestId,
+        String city,
+        String state
+) {}
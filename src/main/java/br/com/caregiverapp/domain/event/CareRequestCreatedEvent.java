@@ -0,0 +1,5 @@
+package br.com.caregiverapp.domain.event;
+
+import br.com.caregiverapp.domain.model.CareRequest;
+
+public record CareRequestCreatedEvent(CareRequest careRequest) {}
@@ -0,0 +1,41 @@
+package br.com.caregiverapp.domain.geo;
+
+public final class GeoDistance {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    /**
+     * {@link #haversineKm} in SQL, from {@code :latitude}/{@code :longitude} to the row's
+     * {@code latitude}/{@code longitude} columns.
+     */
+    public static final String HAVERSINE_KM_SQL = "2 * " + EARTH_RADIUS_KM + " * asin(least(1, sqrt("
+            + "power(sin(radians(latitude - :latitude) / 2), 2)"
+            + " + cos(radians(:latitude)) * cos(radians(latitude))"
+            + " * power(sin(radians(longitude - :longitude) / 2), 2))))";
+
+    /**
+     * Rows at most {@code :radiusKm} north or south of {@code :latitude}: the cheap half of the
+     * bounding box, checked before the distance. East-west the geohash cells already bound it.
+     */
+    public static final String LATITUDE_BAND_SQL = "latitude between"
+            + " :latitude - :radiusKm * 180 / (pi() * " + EARTH_RADIUS_KM + ")"
+            + " and :latitude + :radiusKm * 180 / (pi() * " + EARTH_RADIUS_KM + ")";
+
+    private GeoDistance() {}
+
+    public static double haversineKm(
+            double latitude1,
+            double longitude1,
+            double latitude2,
+            double longitude2
+    ) {
+        double dLat = Math.toRadians(latitude2 - latitude1);
+        double dLon = Math.toRadians(longitude2 - longitude1);
+
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.caregiverapp.domain.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Geohash cells used to prune radius searches before the exact haversine check. Every
+ * located row stores the hash of its cell at {@link #CELL_PRECISION} (about 4.9 x 4.9 km at
+ * the equator), so a search only has to list the cells its bounding box touches.
+ */
+public final class GeoHash {
+
+    public static final int CELL_PRECISION = 5;
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final int MAX_CELLS = 1024;
+
+    private GeoHash() {}
+
+    public static String cellOf(double latitude, double longitude) {
+        return encode(latitude, longitude, CELL_PRECISION);
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        checkCoordinates(latitude, longitude);
+
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Every cell overlapping the bounding box of the circle, so any point within
+     * {@code radiusKm} lies in one of them. Throws when the box needs more than
+     * {@value #MAX_CELLS} cells, which only happens for very large radii or near the poles.
+     */
+    public static List<String> cellsWithin(double latitude, double longitude, double radiusKm) {
+        checkCoordinates(latitude, longitude);
+
+        double height = cellHeightDegrees(CELL_PRECISION);
+        double width = cellWidthDegrees(CELL_PRECISION);
+        long columns = Math.round(360 / width);
+
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double minLat = Math.max(-90, latitude - latDelta);
+        double maxLat = Math.min(90, latitude + latDelta);
+
+        double widestLatitude = Math.max(Math.abs(minLat), Math.abs(maxLat));
+        double lonDelta = radiusKm / (KM_PER_DEGREE * Math.cos(Math.toRadians(widestLatitude)));
+
+        long firstRow = row(minLat, height);
+        long lastRow = row(maxLat, height);
+        long firstColumn = (long) Math.floor((longitude - lonDelta + 180) / width);
+        long lastColumn = (long) Math.floor((longitude + lonDelta + 180) / width);
+
+        long rowCount = lastRow - firstRow + 1;
+        long columnCount = Math.min(columns, lastColumn - firstColumn + 1);
+        if (!Double.isFinite(lonDelta) || rowCount * columnCount > MAX_CELLS) {
+            throw new IllegalArgumentException("Search area too large");
+        }
+
+        List<String> cells = new ArrayList<>((int) (rowCount * columnCount));
+        for (long r = firstRow; r <= lastRow; r++) {
+            double cellLat = (r + 0.5) * height - 90;
+            for (long c = firstColumn; c < firstColumn + columnCount; c++) {
+                double cellLon = (Math.floorMod(c, columns) + 0.5) * width - 180;
+                cells.add(encode(cellLat, cellLon, CELL_PRECISION));
+            }
+        }
+        return cells;
+    }
+
+    private static long row(double latitude, double height) {
+        long rows = Math.round(180 / height);
+        return Math.min(rows - 1, (long) Math.floor((latitude + 90) / height));
+    }
+
+    private static double cellHeightDegrees(int precision) {
+        int latBits = (5 * precision) / 2;
+        return 180 / Math.pow(2, latBits);
+    }
+
+    private static double cellWidthDegrees(int precision) {
+        int lonBits = (5 * precision + 1) / 2;
+        return 360 / Math.pow(2, lonBits);
+    }
+
+    private static void checkCoordinates(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Invalid coordinates");
+        }
+    }
+}
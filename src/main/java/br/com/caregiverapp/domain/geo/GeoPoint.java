@@ -0,0 +1,36 @@
+package br.com.caregiverapp.domain.geo;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public record GeoPoint(double latitude, double longitude) {
+
+    public GeoPoint {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid coordinates");
+        }
+    }
+
+    /**
+     * Null when neither coordinate is given; both must be given otherwise.
+     */
+    public static GeoPoint of(Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return null;
+        }
+        if (latitude == null || longitude == null) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Latitude and longitude must be given together"
+            );
+        }
+        return new GeoPoint(latitude, longitude);
+    }
+
+    public double distanceKm(double latitude, double longitude) {
+        return GeoDistance.haversineKm(this.latitude, this.longitude, latitude, longitude);
+    }
+
+    public String cell() {
+        return GeoHash.cellOf(latitude, longitude);
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.caregiverapp.domain.model;
+
+/**
+ * Second-level cache regions. Each natural-id region shares the size and TTL settings of its
+ * entity region, see {@code EntityCacheConfig}.
+ */
+public final class CacheRegions {
+
+    public static final String USERS = "users";
+    public static final String USERS_BY_EMAIL = "users-by-email";
+
+    public static final String CAREGIVER_PROFILES = "caregiver-profiles";
+    public static final String CAREGIVER_PROFILES_BY_USER = "caregiver-profiles-by-user";
+
+    public static final String ELDER_PROFILES = "elder-profiles";
+    public static final String ELDER_PROFILES_BY_USER = "elder-profiles-by-user";
+
+    private CacheRegions() {}
+}
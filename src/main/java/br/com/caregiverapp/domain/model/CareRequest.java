@@ -1,5 +1,6 @@
 package br.com.caregiverapp.domain.model;
 
+import br.com.caregiverapp.domain.geo.GeoPoint;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
 
@@ -13,10 +14,10 @@ import java.util.UUID;
 public class CareRequest {
 
     @Id
-    @GeneratedValue
+    @UuidV7
     private UUID id;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "elder_profile_id", nullable = false)
     private ElderProfile elderProfile;
 
@@ -38,6 +39,13 @@ public class CareRequest {
     @Column(nullable = false, length = 2)
     private String state;
 
+    private Double latitude;
+
+    private Double longitude;
+
+    @Column(name = "geo_cell", length = 12)
+    private String geoCell;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private CareRequestStatus status;
@@ -45,7 +53,10 @@ public class CareRequest {
     @CreationTimestamp
     private OffsetDateTime createdAt;
 
-    @ManyToOne
+    @Version
+    private long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_caregiver_profile_id")
     private CaregiverProfile assignedCaregiver;
 
@@ -55,6 +66,24 @@ public class CareRequest {
     }
 
 
+    public void setLocation(GeoPoint location) {
+        this.latitude = location != null ? location.latitude() : null;
+        this.longitude = location != null ? location.longitude() : null;
+        this.geoCell = location != null ? location.cell() : null;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public GeoPoint getLocation() {
+        return latitude != null && longitude != null ? new GeoPoint(latitude, longitude) : null;
+    }
+
     protected CareRequest() {}
 
     public CareRequest(
@@ -121,4 +150,8 @@ public class CareRequest {
     public CaregiverProfile getAssignedCaregiver() {
         return assignedCaregiver;
     }
+
+    public long getVersion() {
+        return version;
+    }
 }
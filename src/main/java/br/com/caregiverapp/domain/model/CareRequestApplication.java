@@ -18,14 +18,14 @@ import java.util.UUID;
 public class CareRequestApplication {
 
     @Id
-    @GeneratedValue
+    @UuidV7
     private UUID id;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "care_request_id", nullable = false)
     private CareRequest careRequest;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "caregiver_profile_id", nullable = false)
     private CaregiverProfile caregiverProfile;
 
@@ -1,7 +1,12 @@
 package br.com.caregiverapp.domain.model;
 
+import br.com.caregiverapp.domain.geo.GeoPoint;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -14,13 +19,17 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "caregiver_profiles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CAREGIVER_PROFILES)
+@NaturalIdCache(region = CacheRegions.CAREGIVER_PROFILES_BY_USER)
 public class CaregiverProfile {
 
     @Id
-    @GeneratedValue
+    @UuidV7
     private UUID id;
 
-    @OneToOne(optional = false)
+    @NaturalId
+    @OneToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false, unique = true)
     private User user;
 
@@ -45,6 +54,13 @@ public class CaregiverProfile {
     @Column(nullable = false, length = 2)
     private String state;
 
+    private Double latitude;
+
+    private Double longitude;
+
+    @Column(name = "geo_cell", length = 12)
+    private String geoCell;
+
     @Column(columnDefinition = "text")
     private String skills;
 
@@ -86,10 +102,6 @@ public class CaregiverProfile {
         return user;
     }
 
-    public void setUser(User user) {
-        this.user = user;
-    }
-
     public String getBio() {
         return bio;
     }
@@ -146,11 +158,34 @@ public class CaregiverProfile {
         this.state = state;
     }
 
+    public void setLocation(GeoPoint location) {
+        this.latitude = location != null ? location.latitude() : null;
+        this.longitude = location != null ? location.longitude() : null;
+        this.geoCell = location != null ? location.cell() : null;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public GeoPoint getLocation() {
+        return latitude != null && longitude != null ? new GeoPoint(latitude, longitude) : null;
+    }
+
     public String getSkills() {
         return skills;
     }
 
     public List<String> getSkillsAsList() {
+        return skillsAsList(skills);
+    }
+
+    // skills are stored as a comma-separated column
+    public static List<String> skillsAsList(String skills) {
         if (skills == null || skills.isBlank()) {
             return Collections.emptyList();
         }
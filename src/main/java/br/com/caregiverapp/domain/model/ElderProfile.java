@@ -1,7 +1,12 @@
 package br.com.caregiverapp.domain.model;
 
+import br.com.caregiverapp.domain.geo.GeoPoint;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.OffsetDateTime;
@@ -9,13 +14,17 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "elder_profiles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ELDER_PROFILES)
+@NaturalIdCache(region = CacheRegions.ELDER_PROFILES_BY_USER)
 public class ElderProfile {
 
     @Id
-    @GeneratedValue
+    @UuidV7
     private UUID id;
 
-    @OneToOne(optional = false)
+    @NaturalId
+    @OneToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false, unique = true)
     private User user;
 
@@ -37,6 +46,13 @@ public class ElderProfile {
     @Column(nullable = false, length = 2)
     private String state;
 
+    private Double latitude;
+
+    private Double longitude;
+
+    @Column(name = "geo_cell", length = 12)
+    private String geoCell;
+
     @CreationTimestamp
     private OffsetDateTime createdAt;
 
@@ -84,9 +100,21 @@ public class ElderProfile {
     public String getMobilityLevel() { return mobilityLevel; }
     public String getCity() { return city; }
     public String getState() { return state; }
+    public Double getLatitude() { return latitude; }
+    public Double getLongitude() { return longitude; }
     public String getPhone() { return phone; }
     public String getEmergencyContact() { return emergencyContact; }
 
+    public void setLocation(GeoPoint location) {
+        this.latitude = location != null ? location.latitude() : null;
+        this.longitude = location != null ? location.longitude() : null;
+        this.geoCell = location != null ? location.cell() : null;
+    }
+
+    public GeoPoint getLocation() {
+        return latitude != null && longitude != null ? new GeoPoint(latitude, longitude) : null;
+    }
+
     public void setId(UUID id) {
         this.id = id;
     }
@@ -2,5 +2,6 @@ package br.com.caregiverapp.domain.model;
 
 public enum UserRole {
     CAREGIVER,
-    ELDER
+    ELDER,
+    ADMIN
 }
@@ -0,0 +1,8 @@
+package br.com.caregiverapp.exception;
+
+public class EmailAlreadyRegisteredException extends RuntimeException {
+
+    public EmailAlreadyRegisteredException(String message) {
+        super(message);
+    }
+}
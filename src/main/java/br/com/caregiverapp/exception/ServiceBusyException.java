@@ -0,0 +1,8 @@
+package br.com.caregiverapp.exception;
+
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -1,22 +1,93 @@
 package br.com.caregiverapp.repository;
 
+import br.com.caregiverapp.domain.dto.CareRequestApplicationResponse;
+import br.com.caregiverapp.domain.dto.CaregiverApplicantResponse;
 import br.com.caregiverapp.domain.model.CareRequestApplication;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface CareRequestApplicationRepository
         extends JpaRepository<CareRequestApplication, UUID> {
 
+    // what CareRequestApplicationResponse.from reads; the assigned caregiver is only compared by id
+    String STREAMED_APPLICATION = """
+            select a from CareRequestApplication a
+            join fetch a.caregiverProfile cp
+            join fetch cp.user
+            join fetch a.careRequest r
+            """;
+
+    // Listings select the response columns in a single joined query. A request's assigned
+    // caregiver is compared by foreign key, so it is never joined.
+
+    String SELECT_APPLICATION = """
+            select new br.com.caregiverapp.domain.dto.CareRequestApplicationResponse(
+                a.id, r.id, cp.id, u.fullName, cp.bio, cp.yearsOfExperience, cp.hourlyRate,
+                case when r.assignedCaregiver.id = cp.id then 'ACCEPTED' else 'PENDING' end,
+                a.message, a.createdAt
+            )
+            from CareRequestApplication a
+            join a.careRequest r
+            join a.caregiverProfile cp
+            join cp.user u
+            """;
+
+    String SELECT_APPLICANT = """
+            select new br.com.caregiverapp.domain.dto.CaregiverApplicantResponse(
+                cp.id, u.id, u.fullName, cp.yearsOfExperience, cp.hourlyRate,
+                cp.city, cp.state, cp.skills, a.createdAt
+            )
+            from CareRequestApplication a
+            join a.caregiverProfile cp
+            join cp.user u
+            """;
+
     boolean existsByCareRequestIdAndCaregiverProfileId(
             UUID careRequestId,
             UUID caregiverProfileId
     );
 
-    List<CareRequestApplication> findByCareRequestId(UUID careRequestId);
+    @Query(SELECT_APPLICATION + " where r.id = :careRequestId order by a.createdAt, a.id")
+    List<CareRequestApplicationResponse> findApplicationsByCareRequestId(
+            @Param("careRequestId") UUID careRequestId
+    );
+
+    @Query(SELECT_APPLICATION + " where cp.id = :caregiverProfileId order by a.createdAt, a.id")
+    List<CareRequestApplicationResponse> findApplicationsByCaregiverProfileId(
+            @Param("caregiverProfileId") UUID caregiverProfileId
+    );
+
+    @Query(SELECT_APPLICANT + " where a.careRequest.id = :careRequestId order by a.createdAt, a.id")
+    List<CaregiverApplicantResponse> findApplicantsByCareRequestId(
+            @Param("careRequestId") UUID careRequestId
+    );
 
-    List<CareRequestApplication> findByCaregiverProfileId(UUID caregiverProfileId);
+    // NDJSON export, read through a server-side cursor. Must be consumed inside a
+    // transaction and closed.
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = CareRequestRepository.STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(STREAMED_APPLICATION + " where r.id = :careRequestId order by a.createdAt, a.id")
+    Stream<CareRequestApplication> streamByCareRequestId(@Param("careRequestId") UUID careRequestId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = CareRequestRepository.STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(STREAMED_APPLICATION + " where cp.id = :caregiverProfileId order by a.createdAt, a.id")
+    Stream<CareRequestApplication> streamByCaregiverProfileId(
+            @Param("caregiverProfileId") UUID caregiverProfileId
+    );
 }
@@ -1,17 +1,79 @@
 package br.com.caregiverapp.repository;
 
+import br.com.caregiverapp.domain.dto.CareRequestRow;
+import br.com.caregiverapp.domain.geo.GeoDistance;
 import br.com.caregiverapp.domain.model.CareRequest;
 import br.com.caregiverapp.domain.model.CareRequestStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface CareRequestRepository
         extends JpaRepository<CareRequest, UUID> {
 
+    /**
+     * Open requests whose description matches {@code :query} (web search syntax, Portuguese
+     * stemming), with the same optional location and schedule filters as the listing.
+     */
+    String SEARCH_OPEN = """
+            select c.id as id, ts_rank(c.description_tsv, query) as rank
+            from care_requests c, websearch_to_tsquery('portuguese', :query) query
+            where c.status = 'OPEN'
+              and c.description_tsv @@ query
+              and (cast(:city as text) is null or c.city = :city)
+              and (cast(:state as text) is null or c.state = :state)
+              and (cast(:fromDate as date) is null or c.care_date >= :fromDate)
+              and (cast(:toDate as date) is null or c.care_date <= :toDate)
+              and (cast(:windowStart as time) is null or c.start_time >= :windowStart)
+              and (cast(:windowEnd as time) is null or c.end_time <= :windowEnd)
+            """;
+
+    String STREAM_FETCH_SIZE = "500";
+
+    // listing columns only: c.elderProfile.id reads the foreign key, nothing is joined
+    String SELECT_ROW = """
+            select new br.com.caregiverapp.domain.dto.CareRequestRow(
+                c.id, c.elderProfile.id, c.description, c.careDate, c.startTime, c.endTime,
+                c.city, c.state, c.latitude, c.longitude, c.status, c.createdAt
+            )
+            from CareRequest c
+            """;
+
+    String SEARCH_ORDER = " order by rank desc, c.id";
+
+    String SEARCH_AFTER = """
+              and (ts_rank(c.description_tsv, query) < cast(:rank as real)
+                   or (ts_rank(c.description_tsv, query) = cast(:rank as real) and c.id > :id))
+            """;
+
+    interface SearchHit {
+        UUID getId();
+
+        float getRank();
+    }
+
+    interface ListingVersionRow {
+        String getScope();
+
+        long getVersion();
+    }
+
     List<CareRequest> findByCityAndStateAndStatus(
             String city,
             String state,
@@ -22,7 +84,175 @@ public interface CareRequestRepository
 
     List<CareRequest> findByStateAndStatus(String state, CareRequestStatus status);
 
-    List<CareRequest> findByStatus(CareRequestStatus status);
+    @Query(SELECT_ROW + " where c.status = :status")
+    List<CareRequestRow> findByStatus(@Param("status") CareRequestStatus status);
 
     List<CareRequest> findByElderProfileId(UUID elderProfileId);
+
+    @Query("select c.version from CareRequest c where c.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    // Keyset pages ordered by (care_date, created_at, id). Pageable only carries the limit.
+
+    @Query(SELECT_ROW + """
+            where c.status = :status
+              and (:city is null or c.city = :city)
+              and (:state is null or c.state = :state)
+              and (cast(:fromDate as LocalDate) is null or c.careDate >= :fromDate)
+              and (cast(:toDate as LocalDate) is null or c.careDate <= :toDate)
+              and (cast(:windowStart as LocalTime) is null or c.startTime >= :windowStart)
+              and (cast(:windowEnd as LocalTime) is null or c.endTime <= :windowEnd)
+            order by c.careDate, c.createdAt, c.id
+            """)
+    List<CareRequestRow> findFirstPageByLocation(
+            @Param("status") CareRequestStatus status,
+            @Param("city") String city,
+            @Param("state") String state,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            @Param("windowStart") LocalTime windowStart,
+            @Param("windowEnd") LocalTime windowEnd,
+            Pageable limit
+    );
+
+    @Query(SELECT_ROW + """
+            where c.status = :status
+              and (:city is null or c.city = :city)
+              and (:state is null or c.state = :state)
+              and (cast(:fromDate as LocalDate) is null or c.careDate >= :fromDate)
+              and (cast(:toDate as LocalDate) is null or c.careDate <= :toDate)
+              and (cast(:windowStart as LocalTime) is null or c.startTime >= :windowStart)
+              and (cast(:windowEnd as LocalTime) is null or c.endTime <= :windowEnd)
+              and (c.careDate, c.createdAt, c.id) > (:careDate, :createdAt, :id)
+            order by c.careDate, c.createdAt, c.id
+            """)
+    List<CareRequestRow> findPageByLocationAfter(
+            @Param("status") CareRequestStatus status,
+            @Param("city") String city,
+            @Param("state") String state,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            @Param("windowStart") LocalTime windowStart,
+            @Param("windowEnd") LocalTime windowEnd,
+            @Param("careDate") LocalDate careDate,
+            @Param("createdAt") OffsetDateTime createdAt,
+            @Param("id") UUID id,
+            Pageable limit
+    );
+
+    @Query(SELECT_ROW + """
+            where c.elderProfile.id = :elderProfileId
+            order by c.careDate, c.createdAt, c.id
+            """)
+    List<CareRequestRow> findFirstPageByElderProfileId(
+            @Param("elderProfileId") UUID elderProfileId,
+            Pageable limit
+    );
+
+    @Query(SELECT_ROW + """
+            where c.elderProfile.id = :elderProfileId
+              and (c.careDate, c.createdAt, c.id) > (:careDate, :createdAt, :id)
+            order by c.careDate, c.createdAt, c.id
+            """)
+    List<CareRequestRow> findPageByElderProfileIdAfter(
+            @Param("elderProfileId") UUID elderProfileId,
+            @Param("careDate") LocalDate careDate,
+            @Param("createdAt") OffsetDateTime createdAt,
+            @Param("id") UUID id,
+            Pageable limit
+    );
+
+    /**
+     * Open requests within {@code :radiusKm} of the point, closest first. The geohash cells
+     * narrow the scan through the index; distance, order and limit are applied in the database.
+     */
+    @Query(value = "select id, distance_km as \"distanceKm\""
+            + " from (select c.id, " + GeoDistance.HAVERSINE_KM_SQL + " as distance_km"
+            + "       from care_requests c"
+            + "       where c.status = 'OPEN'"
+            + "         and c.geo_cell in (:cells)"
+            + "         and " + GeoDistance.LATITUDE_BAND_SQL + ") nearby"
+            + " where distance_km <= :radiusKm"
+            + " order by distance_km, id", nativeQuery = true)
+    List<NearbyHit> findOpenNearby(
+            @Param("cells") Collection<String> cells,
+            @Param("latitude") double latitude,
+            @Param("longitude") double longitude,
+            @Param("radiusKm") double radiusKm,
+            Pageable limit
+    );
+
+    // Ranked search pages ordered by (rank desc, id). Pageable only carries the limit.
+    // Hits only carry ids; the rows are read with findRowsByIdIn.
+
+    @Query(value = SEARCH_OPEN + SEARCH_ORDER, nativeQuery = true)
+    List<SearchHit> searchOpen(
+            @Param("query") String query,
+            @Param("city") String city,
+            @Param("state") String state,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            @Param("windowStart") LocalTime windowStart,
+            @Param("windowEnd") LocalTime windowEnd,
+            Pageable limit
+    );
+
+    @Query(value = SEARCH_OPEN + SEARCH_AFTER + SEARCH_ORDER, nativeQuery = true)
+    List<SearchHit> searchOpenAfter(
+            @Param("query") String query,
+            @Param("city") String city,
+            @Param("state") String state,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            @Param("windowStart") LocalTime windowStart,
+            @Param("windowEnd") LocalTime windowEnd,
+            @Param("rank") float rank,
+            @Param("id") UUID id,
+            Pageable limit
+    );
+
+    // Listing change counters, see CareRequestChangeTracker.
+
+    @Query(value = "select scope, version from care_request_listing_versions where scope in (:scopes)",
+            nativeQuery = true)
+    List<ListingVersionRow> findListingVersions(@Param("scopes") Collection<String> scopes);
+
+    // scopes in a fixed order, the order their rows are locked in
+    @Modifying
+    @Query(value = """
+            insert into care_request_listing_versions (scope, version)
+            select scope, 1 from unnest(cast(:scopes as text[])) scope
+            on conflict (scope) do update set version = care_request_listing_versions.version + 1
+            """, nativeQuery = true)
+    void bumpListingVersions(@Param("scopes") String[] scopes);
+
+    @Query(SELECT_ROW + " where c.id in :ids")
+    List<CareRequestRow> findRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Full listing for NDJSON export, read through a server-side cursor. Must be consumed
+    // inside a transaction and closed.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select c from CareRequest c
+            where c.status = :status
+              and (:city is null or c.city = :city)
+              and (:state is null or c.state = :state)
+              and (cast(:fromDate as LocalDate) is null or c.careDate >= :fromDate)
+              and (cast(:toDate as LocalDate) is null or c.careDate <= :toDate)
+              and (cast(:windowStart as LocalTime) is null or c.startTime >= :windowStart)
+              and (cast(:windowEnd as LocalTime) is null or c.endTime <= :windowEnd)
+            order by c.careDate, c.createdAt, c.id
+            """)
+    Stream<CareRequest> streamByLocation(
+            @Param("status") CareRequestStatus status,
+            @Param("city") String city,
+            @Param("state") String state,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate,
+            @Param("windowStart") LocalTime windowStart,
+            @Param("windowEnd") LocalTime windowEnd
+    );
 }
@@ -0,0 +1,13 @@
+package br.com.caregiverapp.repository;
+
+import br.com.caregiverapp.domain.model.CaregiverProfile;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CaregiverProfileNaturalIdLookup {
+
+    Optional<CaregiverProfile> findByUserId(UUID userId);
+
+    Optional<UUID> findIdByUserId(UUID userId);
+}
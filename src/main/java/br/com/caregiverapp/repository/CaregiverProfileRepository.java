@@ -1,17 +1,45 @@
 package br.com.caregiverapp.repository;
 
+import br.com.caregiverapp.domain.geo.GeoDistance;
 import br.com.caregiverapp.domain.model.CaregiverProfile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CaregiverProfileRepository
-        extends JpaRepository<CaregiverProfile, UUID> {
+        extends JpaRepository<CaregiverProfile, UUID>, CaregiverProfileNaturalIdLookup {
 
-    Optional<CaregiverProfile> findByUserId(UUID userId);
+    // apply: the response carries the caregiver's name
+    @EntityGraph(attributePaths = "user")
+    Optional<CaregiverProfile> findWithUserById(UUID id);
 
     boolean existsByUserId(UUID userId);
+
+    // Radius search, closest first; see CareRequestRepository.findOpenNearby.
+    @Query(value = "select id, distance_km as \"distanceKm\""
+            + " from (select p.id, " + GeoDistance.HAVERSINE_KM_SQL + " as distance_km"
+            + "       from caregiver_profiles p"
+            + "       where p.geo_cell in (:cells)"
+            + "         and " + GeoDistance.LATITUDE_BAND_SQL + ") nearby"
+            + " where distance_km <= :radiusKm"
+            + " order by distance_km, id", nativeQuery = true)
+    List<NearbyHit> findNearby(
+            @Param("cells") Collection<String> cells,
+            @Param("latitude") double latitude,
+            @Param("longitude") double longitude,
+            @Param("radiusKm") double radiusKm,
+            Pageable limit
+    );
+
+    // the profiles of a page of nearby hits, with the user id the response carries
+    List<CaregiverProfile> findByIdIn(Collection<UUID> ids);
 }
\ No newline at end of file
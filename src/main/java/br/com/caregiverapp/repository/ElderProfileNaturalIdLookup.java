@@ -0,0 +1,13 @@
+package br.com.caregiverapp.repository;
+
+import br.com.caregiverapp.domain.model.ElderProfile;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ElderProfileNaturalIdLookup {
+
+    Optional<ElderProfile> findByUserId(UUID userId);
+
+    Optional<UUID> findIdByUserId(UUID userId);
+}
@@ -0,0 +1,31 @@
+package br.com.caregiverapp.repository;
+
+import br.com.caregiverapp.domain.model.ElderProfile;
+import br.com.caregiverapp.domain.model.User;
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Transactional(readOnly = true)
+class ElderProfileNaturalIdLookupImpl implements ElderProfileNaturalIdLookup {
+
+    private final EntityManager entityManager;
+
+    ElderProfileNaturalIdLookupImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<ElderProfile> findByUserId(UUID userId) {
+        // the natural id is the user association; a reference carries its key without a select
+        User user = entityManager.getReference(User.class, userId);
+        return NaturalIds.load(entityManager, ElderProfile.class, user);
+    }
+
+    @Override
+    public Optional<UUID> findIdByUserId(UUID userId) {
+        return findByUserId(userId).map(ElderProfile::getId);
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.caregiverapp.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+/**
+ * Loads through Hibernate's natural-id API, which resolves the primary key from the natural-id
+ * cache region and then the entity from its second-level cache region, so a warm lookup
+ * issues no SQL. Derived queries such as {@code findByEmail} always hit the database.
+ */
+final class NaturalIds {
+
+    private NaturalIds() {}
+
+    static <T> Optional<T> load(EntityManager entityManager, Class<T> type, Object naturalId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(type)
+                .loadOptional(naturalId);
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.caregiverapp.repository;
+
+import java.util.UUID;
+
+/**
+ * A row found by a radius search and its distance from the centre; the rows themselves are
+ * read by id afterwards, for the page only.
+ */
+public interface NearbyHit {
+    UUID getId();
+
+    double getDistanceKm();
+}
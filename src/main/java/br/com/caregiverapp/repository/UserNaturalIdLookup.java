@@ -0,0 +1,10 @@
+package br.com.caregiverapp.repository;
+
+import br.com.caregiverapp.domain.model.User;
+
+import java.util.Optional;
+
+public interface UserNaturalIdLookup {
+
+    Optional<User> findByEmail(String email);
+}
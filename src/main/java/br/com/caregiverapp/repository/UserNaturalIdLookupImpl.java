@@ -0,0 +1,22 @@
+package br.com.caregiverapp.repository;
+
+import br.com.caregiverapp.domain.model.User;
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+class UserNaturalIdLookupImpl implements UserNaturalIdLookup {
+
+    private final EntityManager entityManager;
+
+    UserNaturalIdLookupImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return NaturalIds.load(entityManager, User.class, email);
+    }
+}
@@ -8,13 +8,11 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdLookup {
 
     User save(User user);
 
     Optional<User> findById(UUID id);
 
-    Optional<User> findByEmail(String email);
-
     boolean existsByEmail(String email);
 }
\ No newline at end of file
@@ -1,30 +1,86 @@
 package br.com.caregiverapp.security;
 
 import br.com.caregiverapp.domain.model.User;
+import br.com.caregiverapp.repository.CaregiverProfileRepository;
+import br.com.caregiverapp.repository.ElderProfileRepository;
 import br.com.caregiverapp.repository.UserRepository;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+import java.util.UUID;
+
 @Service
 public class AuthenticatedUserService {
 
     private final UserRepository userRepository;
+    private final CaregiverProfileRepository caregiverProfileRepository;
+    private final ElderProfileRepository elderProfileRepository;
+    private final PrincipalCache principalCache;
 
-    public AuthenticatedUserService(UserRepository userRepository) {
+    public AuthenticatedUserService(
+            UserRepository userRepository,
+            CaregiverProfileRepository caregiverProfileRepository,
+            ElderProfileRepository elderProfileRepository,
+            PrincipalCache principalCache
+    ) {
         this.userRepository = userRepository;
+        this.caregiverProfileRepository = caregiverProfileRepository;
+        this.elderProfileRepository = elderProfileRepository;
+        this.principalCache = principalCache;
+    }
+
+    public UserPrincipal getCurrentPrincipal() {
+        String email = getAuthentication().getName(); // vem do JWT
+        return principalCache.get(email, userRepository::findByEmail)
+                .orElseThrow(() -> new IllegalStateException("User not found"));
     }
 
+    /**
+     * The managed entity, for linking new rows to the user; not served from the principal cache.
+     */
     public User getCurrentUser() {
+        return userRepository.findByEmail(getAuthentication().getName())
+                .orElseThrow(() -> new IllegalStateException("User not found"));
+    }
+
+    public CurrentActor getCurrentActor() {
+        Authentication authentication = getAuthentication();
+
+        if (authentication.getPrincipal() instanceof CurrentActor actor) {
+            return actor;
+        }
+
+        UserPrincipal principal = getCurrentPrincipal();
+        return new CurrentActor(principal.id(), principal.email(), principal.role(), null);
+    }
+
+    public Optional<UUID> getCurrentCaregiverProfileId() {
+        CurrentActor actor = getCurrentActor();
+
+        if (actor.caregiverProfileId() != null) {
+            return Optional.of(actor.caregiverProfileId());
+        }
+        return caregiverProfileRepository.findIdByUserId(actor.userId());
+    }
+
+    public Optional<UUID> getCurrentElderProfileId() {
+        CurrentActor actor = getCurrentActor();
+
+        if (actor.elderProfileId() != null) {
+            return Optional.of(actor.elderProfileId());
+        }
+        return elderProfileRepository.findIdByUserId(actor.userId());
+    }
+
+    private Authentication getAuthentication() {
         Authentication authentication =
                 SecurityContextHolder.getContext().getAuthentication();
 
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new IllegalStateException("User not authenticated");
         }
-
-        String email = authentication.getName(); // vem do JWT
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("User not found"));
+        return authentication;
     }
 }
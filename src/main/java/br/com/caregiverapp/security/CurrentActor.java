@@ -0,0 +1,32 @@
+package br.com.caregiverapp.security;
+
+import br.com.caregiverapp.domain.model.UserRole;
+
+import java.security.Principal;
+import java.util.UUID;
+
+/**
+ * Authenticated principal rebuilt from the access token claims, without touching the database.
+ * {@code profileId} is the caregiver or elder profile of the user, depending on {@code role},
+ * and is {@code null} when the token was issued before the profile existed.
+ */
+public record CurrentActor(
+        UUID userId,
+        String email,
+        UserRole role,
+        UUID profileId
+) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public UUID caregiverProfileId() {
+        return role == UserRole.CAREGIVER ? profileId : null;
+    }
+
+    public UUID elderProfileId() {
+        return role == UserRole.ELDER ? profileId : null;
+    }
+}
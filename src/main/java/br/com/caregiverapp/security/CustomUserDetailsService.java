@@ -1,6 +1,5 @@
 package br.com.caregiverapp.security;
 
-import br.com.caregiverapp.domain.model.User;
 import br.com.caregiverapp.repository.UserRepository;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
@@ -9,23 +8,28 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(
+            UserRepository userRepository,
+            PrincipalCache principalCache
+    ) {
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String email)
             throws UsernameNotFoundException {
 
-        User user = userRepository.findByEmail(email)
+        UserPrincipal principal = principalCache.get(email, userRepository::findByEmail)
                 .orElseThrow(() ->
                         new UsernameNotFoundException("User not found"));
 
-        return org.springframework.security.core.userdetails.User
-                .withUsername(user.getEmail())
-                .password(user.getPasswordHash())
-                .roles(user.getRole().name())
+        return User
+                .withUsername(principal.email())
+                .password(principal.passwordHash())
+                .roles(principal.role().name())
                 .build();
     }
 }
@@ -1,27 +1,38 @@
 package br.com.caregiverapp.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.*;
 import jakarta.servlet.http.*;
 import org.springframework.security.authentication.*;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final CustomUserDetailsService userDetailsService;
+    private final Timer validTokens;
+    private final Timer invalidTokens;
 
     public JwtAuthenticationFilter(
             JwtService jwtService,
-            CustomUserDetailsService userDetailsService
+            CustomUserDetailsService userDetailsService,
+            MeterRegistry meterRegistry
     ) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.validTokens = verifyTimer(meterRegistry, "valid");
+        this.invalidTokens = verifyTimer(meterRegistry, "invalid");
     }
 
     @Override
@@ -39,20 +50,43 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String token = header.substring(7);
-        System.out.println("HEADER: " + header);
-        if (jwtService.isValid(token)) {
-            String email = jwtService.extractEmail(token);
-            UserDetails userDetails =
-                    userDetailsService.loadUserByUsername(email);
 
-            UsernamePasswordAuthenticationToken auth =
-                    new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities()
-                    );
+        long start = System.nanoTime();
+        Optional<VerifiedToken> verified = jwtService.verify(token);
+        (verified.isPresent() ? validTokens : invalidTokens)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (verified.isPresent()) {
+            CurrentActor actor = verified.get().actor();
+            UsernamePasswordAuthenticationToken auth;
+
+            if (actor != null) {
+                auth = new UsernamePasswordAuthenticationToken(
+                        actor,
+                        null,
+                        List.of(new SimpleGrantedAuthority("ROLE_" + actor.role().name()))
+                );
+            } else {
+                // tokens issued before the claims were added: resolve the user by email
+                UserDetails userDetails =
+                        userDetailsService.loadUserByUsername(verified.get().subject());
+
+                auth = new UsernamePasswordAuthenticationToken(
+                        userDetails, null, userDetails.getAuthorities()
+                );
+            }
 
             SecurityContextHolder.getContext().setAuthentication(auth);
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.verify")
+                .description("Token signature and expiry check, including the verified-token cache")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 }
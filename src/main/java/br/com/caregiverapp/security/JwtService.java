@@ -1,11 +1,15 @@
 package br.com.caregiverapp.security;
 
+import br.com.caregiverapp.domain.model.User;
+import br.com.caregiverapp.domain.model.UserRole;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class JwtService {
@@ -15,34 +19,91 @@ public class JwtService {
 
     private static final long EXPIRATION = 1000 * 60 * 60 * 24; // 24h
 
+    public static final String TOKEN_HEADER = "X-Auth-Token";
+
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLE_CLAIM = "role";
+    static final String PROFILE_ID_CLAIM = "pid";
+
     private final Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
 
-    public String generateToken(String email) {
-        return Jwts.builder()
-                .setSubject(email)
+    // JwtParser is immutable and thread-safe, build it once
+    private final JwtParser parser = Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build();
+
+    private final VerifiedTokenCache tokenCache;
+
+    public JwtService(VerifiedTokenCache tokenCache) {
+        this.tokenCache = tokenCache;
+    }
+
+    public String generateToken(User user, UUID profileId) {
+        return generateToken(
+                new CurrentActor(user.getId(), user.getEmail(), user.getRole(), profileId)
+        );
+    }
+
+    public String generateToken(CurrentActor actor) {
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(actor.email())
+                .claim(USER_ID_CLAIM, actor.userId().toString())
+                .claim(ROLE_CLAIM, actor.role().name())
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION))
+                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION));
+
+        if (actor.profileId() != null) {
+            builder.claim(PROFILE_ID_CLAIM, actor.profileId().toString());
+        }
+
+        return builder
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String extractEmail(String token) {
-        return parse(token).getBody().getSubject();
-    }
-
-    public boolean isValid(String token) {
+    /**
+     * Verifies the signature and expiration once and returns what the token says,
+     * or empty when the token is not valid.
+     */
+    public Optional<VerifiedToken> verify(String token) {
         try {
-            parse(token);
-            return true;
+            return Optional.of(tokenCache.get(token, this::parse));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns {@code null} for tokens issued before the user id and role were embedded.
+     */
+    CurrentActor toActor(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return null;
         }
+
+        String profileId = claims.get(PROFILE_ID_CLAIM, String.class);
+
+        return new CurrentActor(
+                UUID.fromString(userId),
+                claims.getSubject(),
+                UserRole.valueOf(role),
+                profileId != null ? UUID.fromString(profileId) : null
+        );
+    }
+
+    Key getSigningKey() {
+        return key;
     }
 
-    private Jws<Claims> parse(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
+    private VerifiedToken parse(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(
+                claims.getSubject(),
+                toActor(claims),
+                expiration != null ? expiration.toInstant() : null
+        );
     }
 }
@@ -0,0 +1,139 @@
+package br.com.caregiverapp.security;
+
+import br.com.caregiverapp.domain.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.*;
+import jakarta.servlet.http.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token-bucket limits on login and registration, per client IP and per target email.
+ * Runs before any user lookup or BCrypt work.
+ */
+@Component
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> LIMITED_PATHS = Set.of("/api/auth/login", "/api/auth/register");
+
+    // credentials payloads are tiny; anything bigger is refused rather than let past the account limit
+    private static final int MAX_BODY = 4 * 1024;
+
+    private final boolean enabled;
+    private final TokenBucketRateLimiter ipLimiter;
+    private final TokenBucketRateLimiter accountLimiter;
+    private final ObjectMapper objectMapper;
+
+    private final LongAdder rejectedByIp = new LongAdder();
+    private final LongAdder rejectedByAccount = new LongAdder();
+
+    public LoginRateLimitFilter(
+            ObjectMapper objectMapper,
+            @Value("${caregiverapp.security.login-rate-limit.enabled:true}") boolean enabled,
+            @Value("${caregiverapp.security.login-rate-limit.per-ip.capacity:20}") int ipCapacity,
+            @Value("${caregiverapp.security.login-rate-limit.per-ip.refill-period:1m}") Duration ipRefillPeriod,
+            @Value("${caregiverapp.security.login-rate-limit.per-account.capacity:5}") int accountCapacity,
+            @Value("${caregiverapp.security.login-rate-limit.per-account.refill-period:1m}") Duration accountRefillPeriod,
+            @Value("${caregiverapp.security.login-rate-limit.max-keys:100000}") int maxKeys
+    ) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ipLimiter = new TokenBucketRateLimiter(ipCapacity, ipRefillPeriod, maxKeys);
+        this.accountLimiter = new TokenBucketRateLimiter(accountCapacity, accountRefillPeriod, maxKeys);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !"POST".equals(request.getMethod())
+                || !LIMITED_PATHS.contains(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        long wait = ipLimiter.tryAcquire(request.getRemoteAddr());
+        if (wait > 0) {
+            rejectedByIp.increment();
+            reject(response, wait);
+            return;
+        }
+
+        // chunked bodies carry no length, so only a bounded prefix is ever read
+        byte[] body = request.getContentLengthLong() > MAX_BODY
+                ? null
+                : request.getInputStream().readNBytes(MAX_BODY + 1);
+        if (body == null || body.length > MAX_BODY) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body too large");
+            return;
+        }
+
+        CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request, body);
+        String email = extractEmail(body);
+
+        if (email != null) {
+            wait = accountLimiter.tryAcquire(email);
+            if (wait > 0) {
+                rejectedByAccount.increment();
+                reject(response, wait);
+                return;
+            }
+        }
+
+        filterChain.doFilter(cachedRequest, response);
+    }
+
+    public long getRejectedByIp() {
+        return rejectedByIp.sum();
+    }
+
+    public long getRejectedByAccount() {
+        return rejectedByAccount.sum();
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            if (email == null || !email.isTextual()) {
+                return null;
+            }
+            return email.asText().trim().toLowerCase(Locale.ROOT);
+        } catch (IOException e) {
+            // malformed payloads are rejected by the controller
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        writeError(response, HttpStatus.TOO_MANY_REQUESTS, "Too many attempts, try again later");
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(
+                response.getOutputStream(),
+                new ErrorResponse(status.value(), message, Instant.now())
+        );
+    }
+}
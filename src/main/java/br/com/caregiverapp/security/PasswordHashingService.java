@@ -0,0 +1,166 @@
+package br.com.caregiverapp.security;
+
+import br.com.caregiverapp.exception.ServiceBusyException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs BCrypt on a dedicated, bounded pool so login spikes cannot take every servlet thread.
+ * When the queue is full callers get a {@link ServiceBusyException} (503) right away.
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    // shared by every batch, so concurrent batches together still leave workers for logins
+    private final Semaphore bulkInFlight;
+
+    // compared against when the account does not exist, so response time does not reveal it
+    private final String dummyHash;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            @Value("${caregiverapp.security.password-hashing.threads:0}") int threads,
+            @Value("${caregiverapp.security.password-hashing.queue-capacity:100}") int queueCapacity,
+            @Value("${caregiverapp.security.password-hashing.timeout:10s}") Duration timeout,
+            @Value("${caregiverapp.security.password-hashing.bulk-threads:0}") int bulkThreads
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        int bulkLimit = bulkThreads > 0 ? Math.min(bulkThreads, poolSize - 1) : poolSize / 2;
+
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeout.toMillis();
+        this.bulkInFlight = new Semaphore(Math.max(1, bulkLimit), true);
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.dummyHash = passwordEncoder.encode("caregiverapp-dummy-password");
+    }
+
+    public String encode(String rawPassword) {
+        return await(submit(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * Hashes a batch on the same pool, with all batches together holding fewer workers than
+     * the pool has ({@code bulk-threads}, half the pool by default, one at least), so
+     * interactive logins always find a free worker. Blocks instead of rejecting.
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+
+        try {
+            for (String rawPassword : rawPasswords) {
+                bulkInFlight.acquire();
+                // released on completion or cancellation, queued tasks included
+                FutureTask<String> task = new FutureTask<>(() -> passwordEncoder.encode(rawPassword)) {
+                    @Override
+                    protected void done() {
+                        bulkInFlight.release();
+                    }
+                };
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    bulkInFlight.release();
+                    futures.forEach(future -> future.cancel(true));
+                    throw new ServiceBusyException("Too many concurrent authentication requests");
+                }
+                futures.add(task);
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing passwords", e);
+        }
+
+        List<String> hashes = new ArrayList<>(futures.size());
+        for (Future<String> future : futures) {
+            hashes.add(await(future));
+        }
+        return hashes;
+    }
+
+    /**
+     * A {@code null} hash still costs one BCrypt round and returns {@code false}.
+     */
+    public boolean matches(String rawPassword, String passwordHash) {
+        if (passwordHash == null) {
+            await(submit(() -> passwordEncoder.matches(rawPassword, dummyHash)));
+            return false;
+        }
+        return await(submit(() -> passwordEncoder.matches(rawPassword, passwordHash)));
+    }
+
+    public boolean needsRehash(String passwordHash) {
+        return passwordEncoder.upgradeEncoding(passwordHash);
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException("Too many concurrent authentication requests");
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceBusyException("Authentication timed out");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
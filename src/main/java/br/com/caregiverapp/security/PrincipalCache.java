@@ -0,0 +1,135 @@
+package br.com.caregiverapp.security;
+
+import br.com.caregiverapp.domain.model.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL based cache of authenticated users keyed by email (the JWT subject). Holds
+ * immutable {@link UserPrincipal} copies, never entities. Entries are dropped once a change to
+ * the {@link User} row commits, see {@link UserCacheInvalidationListener}.
+ */
+@Component
+public class PrincipalCache {
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PrincipalCache(
+            @Value("${caregiverapp.security.principal-cache.enabled:true}") boolean enabled,
+            @Value("${caregiverapp.security.principal-cache.max-size:10000}") int maxSize,
+            @Value("${caregiverapp.security.principal-cache.ttl:5m}") Duration ttl
+    ) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Returns the cached principal for {@code email}, or loads the user with {@code loader}
+     * and caches a copy of it.
+     */
+    public Optional<UserPrincipal> get(String email, Function<String, Optional<User>> loader) {
+        if (!enabled) {
+            return loader.apply(email).map(UserPrincipal::from);
+        }
+
+        long now = System.nanoTime();
+        Entry entry = entries.get(email);
+
+        if (entry != null) {
+            if (entry.expiresAt() - now > 0) {
+                hits.increment();
+                return Optional.of(entry.principal());
+            }
+            if (entries.remove(email, entry)) {
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        Optional<UserPrincipal> principal = loader.apply(email).map(UserPrincipal::from);
+        principal.ifPresent(p -> put(email, p, now));
+        return principal;
+    }
+
+    public void invalidate(String email) {
+        if (email != null && entries.remove(email) != null) {
+            evictions.increment();
+        }
+    }
+
+    public void invalidateAll() {
+        evictions.add(entries.size());
+        entries.clear();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private void put(String email, UserPrincipal principal, long now) {
+        if (entries.size() >= maxSize && !entries.containsKey(email)) {
+            evict(now);
+        }
+        entries.put(email, new Entry(principal, now + ttlNanos));
+    }
+
+    // Only runs when the cache is full: drops expired entries first and,
+    // if that is not enough, the entry closest to expiring.
+    private void evict(long now) {
+        entries.forEach((key, entry) -> {
+            if (entry.expiresAt() - now <= 0 && entries.remove(key, entry)) {
+                evictions.increment();
+            }
+        });
+
+        while (entries.size() >= maxSize) {
+            Map.Entry<String, Entry> oldest = null;
+            for (Map.Entry<String, Entry> candidate : entries.entrySet()) {
+                if (oldest == null
+                        || candidate.getValue().expiresAt() - oldest.getValue().expiresAt() < 0) {
+                    oldest = candidate;
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            if (entries.remove(oldest.getKey(), oldest.getValue())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private record Entry(UserPrincipal principal, long expiresAt) {}
+}
@@ -1,7 +1,12 @@
 package br.com.caregiverapp.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.*;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.authentication.*;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -11,18 +16,48 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.*;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.*;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
 @Configuration
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtFilter;
+    private final LoginRateLimitFilter loginRateLimitFilter;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtFilter) {
+    public SecurityConfig(
+            JwtAuthenticationFilter jwtFilter,
+            LoginRateLimitFilter loginRateLimitFilter
+    ) {
         this.jwtFilter = jwtFilter;
+        this.loginRateLimitFilter = loginRateLimitFilter;
+    }
+
+    // Metrics reveal traffic, endpoints and pool sizes. Scrapers cannot hold an expiring user
+    // token, so they send a static one; with none configured the endpoint stays closed.
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsFilterChain(
+            HttpSecurity http,
+            @Value("${caregiverapp.management.prometheus.scrape-token:}") String scrapeToken
+    ) throws Exception {
+
+        return http
+                .securityMatcher("/actuator/prometheus")
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(sm ->
+                        sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth
+                        .anyRequest().access(scrapeTokenRequired(scrapeToken))
+                )
+                .build();
     }
 
     @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
         return http
@@ -32,6 +67,8 @@ public class SecurityConfig {
                         sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
                         // Profiles
                         .requestMatchers("/api/caregiver/**").permitAll()
@@ -47,10 +84,23 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(loginRateLimitFilter, JwtAuthenticationFilter.class)
                 .build();
     }
 
 
+    private static AuthorizationManager<RequestAuthorizationContext> scrapeTokenRequired(String scrapeToken) {
+        byte[] expected = ("Bearer " + scrapeToken).getBytes(StandardCharsets.UTF_8);
+
+        return (authentication, context) -> {
+            String header = context.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+            boolean granted = !scrapeToken.isBlank()
+                    && header != null
+                    && MessageDigest.isEqual(expected, header.getBytes(StandardCharsets.UTF_8));
+            return new AuthorizationDecision(granted);
+        };
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(
             AuthenticationConfiguration config
@@ -59,7 +109,10 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${caregiverapp.security.bcrypt.strength:10}") int strength
+    ) {
+        // hashes with a lower cost are upgraded on the next successful login
+        return new BCryptPasswordEncoder(strength);
     }
 }
@@ -0,0 +1,112 @@
+package br.com.caregiverapp.security;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket per key, implemented as GCRA: each bucket is a single
+ * "theoretical arrival time" updated with CAS. A bucket whose arrival time is in the
+ * past is full again and carries no state, so it can be evicted at any time. Throttled
+ * buckets are only dropped once the table is full, starting with those closest to refilling.
+ */
+public final class TokenBucketRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final int maxKeys;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    /**
+     * @param capacity     requests allowed in a burst
+     * @param refillPeriod time to go from empty back to {@code capacity} tokens
+     * @param maxKeys      keys tracked at once, give or take callers racing on the last slot;
+     *                     a new key that finds the table full while it is being swept is refused
+     */
+    public TokenBucketRateLimiter(int capacity, Duration refillPeriod, int maxKeys) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        if (maxKeys < 1) {
+            throw new IllegalArgumentException("maxKeys must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1, refillPeriod.toNanos() / capacity);
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Takes one token for {@code key}. Returns 0 when allowed, otherwise the
+     * nanoseconds until the next token becomes available.
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong arrival = bucket(key, now);
+        if (arrival == null) {
+            return emissionIntervalNanos;
+        }
+
+        while (true) {
+            long current = arrival.get();
+            long base = current - now > 0 ? current : now;
+            long next = base + emissionIntervalNanos;
+            long wait = next - now - burstNanos;
+
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        AtomicLong arrival = buckets.get(key);
+        if (arrival != null) {
+            return arrival;
+        }
+
+        if (buckets.size() >= maxKeys && !sweep(now)) {
+            return null;
+        }
+
+        AtomicLong created = new AtomicLong(now);
+        AtomicLong existing = buckets.putIfAbsent(key, created);
+        return existing != null ? existing : created;
+    }
+
+    // Drops full buckets and, if that is not enough, the tenth of the table closest to being
+    // full again: those keys only lose the few tokens they were about to regain.
+    private boolean sweep(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            buckets.values().removeIf(arrival -> arrival.get() - now <= 0);
+            if (buckets.size() < maxKeys) {
+                return true;
+            }
+
+            long[] arrivals = buckets.values().stream()
+                    .mapToLong(arrival -> arrival.get() - now)
+                    .sorted()
+                    .toArray();
+            if (arrivals.length > 0) {
+                long cutoff = arrivals[Math.min(arrivals.length - 1, Math.max(1, maxKeys / 10) - 1)];
+                buckets.values().removeIf(arrival -> arrival.get() - now <= cutoff);
+            }
+            return true;
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.caregiverapp.security;
+
+import br.com.caregiverapp.domain.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA listener registered on {@link User}; instantiated by Hibernate through
+ * Spring's bean container so the cache can be constructor-injected.
+ *
+ * <p>The entry is dropped after the transaction commits: dropping it at flush time would let a
+ * concurrent request reload the old row and cache it again before the change is visible.
+ */
+public class UserCacheInvalidationListener {
+
+    private final PrincipalCache principalCache;
+
+    public UserCacheInvalidationListener(PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        String email = user.getEmail();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            principalCache.invalidate(email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                principalCache.invalidate(email);
+            }
+        });
+    }
+}
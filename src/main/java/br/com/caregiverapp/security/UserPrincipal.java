@@ -0,0 +1,29 @@
+package br.com.caregiverapp.security;
+
+import br.com.caregiverapp.domain.model.User;
+import br.com.caregiverapp.domain.model.UserRole;
+
+import java.util.UUID;
+
+/**
+ * Read-only copy of the {@link User} columns authentication needs, safe to share between
+ * threads and requests; the entity itself stays with the persistence context that loaded it.
+ */
+public record UserPrincipal(
+        UUID id,
+        String email,
+        String fullName,
+        String passwordHash,
+        UserRole role
+) {
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(
+                user.getId(),
+                user.getEmail(),
+                user.getFullName(),
+                user.getPasswordHash(),
+                user.getRole()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.caregiverapp.security;
+
+import java.time.Instant;
+
+/**
+ * What a verified access token says, read once from its claims. Immutable, so it can be shared
+ * between requests presenting the same token. {@code actor} is {@code null} for tokens issued
+ * before the user id and role were embedded; those are resolved by {@code subject}.
+ */
+public record VerifiedToken(
+        String subject,
+        CurrentActor actor,
+        Instant expiration
+) {}
@@ -0,0 +1,121 @@
+package br.com.caregiverapp.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Small cache of recently verified tokens, keyed by a SHA-256 digest of the compact token so raw
+ * credentials are never kept in memory. Values are immutable {@link VerifiedToken}s, never the
+ * parser's claims. An entry never outlives the token's own {@code exp}; when full, the entries
+ * closest to expiring go first.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public VerifiedTokenCache(
+            @Value("${caregiverapp.security.token-cache.enabled:true}") boolean enabled,
+            @Value("${caregiverapp.security.token-cache.max-size:10000}") int maxSize,
+            @Value("${caregiverapp.security.token-cache.ttl:5m}") Duration ttl
+    ) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    /**
+     * Returns the cached result for {@code token} or verifies it with {@code verifier},
+     * which must throw when the token is not valid.
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+
+        if (entry != null) {
+            if (entry.expiresAt() > now) {
+                hits.increment();
+                return entry.token();
+            }
+            entries.remove(key, entry);
+        }
+
+        misses.increment();
+        VerifiedToken verified = verifier.apply(token);
+
+        if (entries.size() >= maxSize) {
+            evict(now);
+        }
+        entries.put(key, new Entry(verified, expiresAt(verified, now)));
+        return verified;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    private long expiresAt(VerifiedToken verified, long now) {
+        long expiresAt = now + ttlMillis;
+        return verified.expiration() != null
+                ? Math.min(expiresAt, verified.expiration().toEpochMilli())
+                : expiresAt;
+    }
+
+    // Only runs when the cache is full: drops expired entries and, if that is not enough,
+    // the tenth of the cache closest to expiring, so the next few misses do not sweep again.
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        if (entries.size() < maxSize) {
+            return;
+        }
+
+        long[] expirations = entries.values().stream().mapToLong(Entry::expiresAt).sorted().toArray();
+        if (expirations.length == 0) {
+            return;
+        }
+        long cutoff = expirations[Math.min(expirations.length - 1, Math.max(1, maxSize / 10) - 1)];
+        entries.values().removeIf(entry -> entry.expiresAt() <= cutoff);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(VerifiedToken token, long expiresAt) {}
+}
@@ -4,47 +4,70 @@ import br.com.caregiverapp.domain.dto.AuthResponse;
 import br.com.caregiverapp.domain.dto.UserResponse;
 import br.com.caregiverapp.domain.model.User;
 import br.com.caregiverapp.domain.model.UserRole;
+import br.com.caregiverapp.exception.EmailAlreadyRegisteredException;
+import br.com.caregiverapp.repository.CaregiverProfileRepository;
+import br.com.caregiverapp.repository.ElderProfileRepository;
 import br.com.caregiverapp.repository.UserRepository;
 import br.com.caregiverapp.security.AuthenticatedUserService;
 import br.com.caregiverapp.security.JwtService;
-import org.springframework.security.authentication.*;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import br.com.caregiverapp.security.PasswordHashingService;
+import br.com.caregiverapp.security.UserPrincipal;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 @Service
 public class AuthService {
 
+    static final String EMAIL_UNIQUE_CONSTRAINT = "users_email_key";
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final CaregiverProfileRepository caregiverProfileRepository;
+    private final ElderProfileRepository elderProfileRepository;
+    private final PasswordHashingService passwordHashingService;
     private final JwtService jwtService;
-    private final AuthenticationManager authenticationManager;
     private final AuthenticatedUserService authenticatedUserService;
 
     public AuthService(
             UserRepository userRepository,
-            PasswordEncoder passwordEncoder,
+            CaregiverProfileRepository caregiverProfileRepository,
+            ElderProfileRepository elderProfileRepository,
+            PasswordHashingService passwordHashingService,
             JwtService jwtService,
-            AuthenticationManager authenticationManager, AuthenticatedUserService authenticatedUserService
+            AuthenticatedUserService authenticatedUserService
     ) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.caregiverProfileRepository = caregiverProfileRepository;
+        this.elderProfileRepository = elderProfileRepository;
+        this.passwordHashingService = passwordHashingService;
         this.jwtService = jwtService;
-        this.authenticationManager = authenticationManager;
         this.authenticatedUserService = authenticatedUserService;
     }
 
     public AuthResponse login(String email, String password) {
 
-        Authentication authentication =
-                new UsernamePasswordAuthenticationToken(email, password);
+        User user = userRepository.findByEmail(email).orElse(null);
 
-        authenticationManager.authenticate(authentication);
+        // same BCrypt cost whether or not the account exists
+        boolean matches = passwordHashingService.matches(
+                password,
+                user != null ? user.getPasswordHash() : null
+        );
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("User not found"));
+        if (!matches) {
+            throw new BadCredentialsException("Bad credentials");
+        }
 
-        String token = jwtService.generateToken(email);
+        if (passwordHashingService.needsRehash(user.getPasswordHash())) {
+            user.setPasswordHash(passwordHashingService.encode(password));
+            userRepository.save(user);
+        }
+
+        String token = issueToken(user, resolveProfileId(user));
 
         return new AuthResponse(
                 token,
@@ -65,11 +88,11 @@ public class AuthService {
             String password,
             UserRole role
     ) {
-        if (userRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException("Email already registered");
+        if (role == UserRole.ADMIN) {
+            throw new AccessDeniedException("Admin accounts cannot be self-registered");
         }
 
-        String passwordHash = passwordEncoder.encode(password);
+        String passwordHash = passwordHashingService.encode(password);
         String fullName = firstName + " " + lastName;
         User user = new User(
                 fullName,
@@ -78,8 +101,17 @@ public class AuthService {
                 role
         );
 
-        userRepository.save(user);
-        String token = jwtService.generateToken(email);
+        // single INSERT; the unique index on users.email decides concurrent sign-ups
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailConflict(e)) {
+                throw new EmailAlreadyRegisteredException("Email already registered");
+            }
+            throw e;
+        }
+
+        String token = issueToken(user, null);
 
         return new AuthResponse(
                 token,
@@ -92,7 +124,24 @@ public class AuthService {
         );
     }
 
-    public User getCurrentUser() {
-        return authenticatedUserService.getCurrentUser();
+    public UserPrincipal getCurrentPrincipal() {
+        return authenticatedUserService.getCurrentPrincipal();
+    }
+
+    public String issueToken(User user, UUID profileId) {
+        return jwtService.generateToken(user, profileId);
+    }
+
+    private UUID resolveProfileId(User user) {
+        return switch (user.getRole()) {
+            case CAREGIVER -> caregiverProfileRepository.findIdByUserId(user.getId()).orElse(null);
+            case ELDER -> elderProfileRepository.findIdByUserId(user.getId()).orElse(null);
+            case ADMIN -> null;
+        };
+    }
+
+    static boolean isEmailConflict(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && EMAIL_UNIQUE_CONSTRAINT.equals(violation.getConstraintName());
     }
 }
\ No newline at end of file
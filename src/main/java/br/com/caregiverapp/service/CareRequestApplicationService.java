@@ -35,11 +35,8 @@ public class CareRequestApplicationService {
     @Transactional
     public CareRequestApplication apply(UUID careRequestId, String message) {
 
-        User user = authenticatedUserService.getCurrentUser();
-
-        CaregiverProfile caregiverProfile =
-                caregiverProfileRepository.findByUserId(user.getId())
-                        .orElseThrow(() -> new ProfileNotFoundException("Caregiver profile not found"));
+        UUID caregiverProfileId = authenticatedUserService.getCurrentCaregiverProfileId()
+                .orElseThrow(() -> new ProfileNotFoundException("Caregiver profile not found"));
 
         CareRequest careRequest = careRequestRepository.findById(careRequestId)
                 .orElseThrow(() -> new IllegalArgumentException("Care request not found"));
@@ -49,11 +46,14 @@ public class CareRequestApplicationService {
         }
 
         if (applicationRepository.existsByCareRequestIdAndCaregiverProfileId(
-                careRequestId, caregiverProfile.getId()
+                careRequestId, caregiverProfileId
         )) {
             throw new IllegalStateException("Already applied");
         }
 
+        CaregiverProfile caregiverProfile = caregiverProfileRepository.findWithUserById(caregiverProfileId)
+                .orElseThrow(() -> new ProfileNotFoundException("Caregiver profile not found"));
+
         return applicationRepository.save(
                 new CareRequestApplication(careRequest, caregiverProfile, message)
         );
@@ -1,8 +1,10 @@
 package br.com.caregiverapp.service;
 
+import br.com.caregiverapp.domain.event.CareRequestAssignedEvent;
 import br.com.caregiverapp.domain.model.*;
 import br.com.caregiverapp.repository.*;
 import br.com.caregiverapp.security.AuthenticatedUserService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,35 +16,33 @@ public class CareRequestAssignmentService {
     private final CareRequestRepository careRequestRepository;
     private final CareRequestApplicationRepository applicationRepository;
     private final CaregiverProfileRepository caregiverProfileRepository;
-    private final ElderProfileRepository elderProfileRepository;
     private final AuthenticatedUserService authenticatedUserService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CareRequestAssignmentService(
             CareRequestRepository careRequestRepository,
             CareRequestApplicationRepository applicationRepository,
             CaregiverProfileRepository caregiverProfileRepository,
-            ElderProfileRepository elderProfileRepository,
-            AuthenticatedUserService authenticatedUserService
+            AuthenticatedUserService authenticatedUserService,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.careRequestRepository = careRequestRepository;
         this.applicationRepository = applicationRepository;
         this.caregiverProfileRepository = caregiverProfileRepository;
-        this.elderProfileRepository = elderProfileRepository;
         this.authenticatedUserService = authenticatedUserService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public void acceptApplication(UUID careRequestId, UUID applicationId) {
 
-        User user = authenticatedUserService.getCurrentUser();
-
-        ElderProfile elderProfile = elderProfileRepository.findByUserId(user.getId())
+        UUID elderProfileId = authenticatedUserService.getCurrentElderProfileId()
                 .orElseThrow(() -> new IllegalStateException("Elder profile not found"));
 
         CareRequest careRequest = careRequestRepository.findById(careRequestId)
                 .orElseThrow(() -> new IllegalArgumentException("Care request not found"));
 
-        if (!careRequest.getElderProfile().getId().equals(elderProfile.getId())) {
+        if (!careRequest.getElderProfile().getId().equals(elderProfileId)) {
             throw new IllegalStateException("You do not own this care request");
         }
 
@@ -60,5 +60,11 @@ public class CareRequestAssignmentService {
         careRequest.assignCaregiver(application.getCaregiverProfile());
 
         careRequestRepository.save(careRequest);
+
+        eventPublisher.publishEvent(new CareRequestAssignedEvent(
+                careRequest.getId(),
+                careRequest.getCity(),
+                careRequest.getState()
+        ));
     }
 }
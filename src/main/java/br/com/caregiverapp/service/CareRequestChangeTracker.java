@@ -0,0 +1,85 @@
+package br.com.caregiverapp.service;
+
+import br.com.caregiverapp.domain.event.CareRequestAssignedEvent;
+import br.com.caregiverapp.domain.event.CareRequestCreatedEvent;
+import br.com.caregiverapp.repository.CareRequestRepository;
+import br.com.caregiverapp.repository.CareRequestRepository.ListingVersionRow;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Modification counters per listing location, kept in {@code care_request_listing_versions}
+ * and bumped inside the transaction that creates or assigns a care request there. The
+ * listing ETag is the counter alone, so an unchanged listing is answered 304 after a single
+ * primary key lookup, and every instance agrees on it.
+ */
+@Component
+public class CareRequestChangeTracker {
+
+    /**
+     * The counter of a listing's location and the one of all locations together, which
+     * {@link OpenCareRequestIndex} compares with the writes it has applied.
+     */
+    public record ListingVersion(long location, long all) {
+
+        public String tag() {
+            return versionTag(location);
+        }
+    }
+
+    static final String ALL = "*";
+
+    private final CareRequestRepository careRequestRepository;
+
+    public CareRequestChangeTracker(CareRequestRepository careRequestRepository) {
+        this.careRequestRepository = careRequestRepository;
+    }
+
+    public ListingVersion version(String city, String state) {
+        String scope = scope(city, state);
+        Map<String, Long> versions = careRequestRepository.findListingVersions(List.of(ALL, scope)).stream()
+                .collect(Collectors.toMap(ListingVersionRow::getScope, ListingVersionRow::getVersion));
+
+        return new ListingVersion(versions.getOrDefault(scope, 0L), versions.getOrDefault(ALL, 0L));
+    }
+
+    public static String versionTag(long version) {
+        return "W/\"" + version + "\"";
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCreated(CareRequestCreatedEvent event) {
+        bump(event.careRequest().getCity(), event.careRequest().getState());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAssigned(CareRequestAssignedEvent event) {
+        bump(event.city(), event.state());
+    }
+
+    // sorted, so concurrent writers lock the rows in the same order and cannot deadlock;
+    // the row for all locations is taken by every write and serializes their commits
+    private void bump(String city, String state) {
+        careRequestRepository.bumpListingVersions(new TreeSet<>(List.of(
+                ALL, scope(null, state), scope(city, null), scope(city, state)
+        )).toArray(String[]::new));
+    }
+
+    // a collision would only share a counter between two locations, never hide a change
+    static String scope(String city, String state) {
+        if (city != null && state != null) {
+            return "state-city:" + state + "|" + city;
+        } else if (city != null) {
+            return "city:" + city;
+        } else if (state != null) {
+            return "state:" + state;
+        }
+        return ALL;
+    }
+}
@@ -1,35 +1,234 @@
 package br.com.caregiverapp.service;
 
+import br.com.caregiverapp.domain.dto.CareRequestApplicationResponse;
+import br.com.caregiverapp.domain.dto.CareRequestCursor;
+import br.com.caregiverapp.domain.dto.CareRequestResponse;
+import br.com.caregiverapp.domain.dto.CareRequestRow;
+import br.com.caregiverapp.domain.dto.CareRequestSearchCursor;
+import br.com.caregiverapp.domain.dto.CareScheduleFilter;
+import br.com.caregiverapp.domain.dto.CaregiverApplicantResponse;
+import br.com.caregiverapp.domain.dto.CursorPage;
+import br.com.caregiverapp.domain.dto.NearbyResult;
+import br.com.caregiverapp.domain.geo.GeoPoint;
+import br.com.caregiverapp.domain.model.CareRequest;
 import br.com.caregiverapp.domain.model.CareRequestApplication;
+import br.com.caregiverapp.domain.model.CareRequestStatus;
 import br.com.caregiverapp.repository.CareRequestApplicationRepository;
 import br.com.caregiverapp.repository.CareRequestRepository;
+import br.com.caregiverapp.repository.CareRequestRepository.SearchHit;
+import br.com.caregiverapp.repository.NearbyHit;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class CareRequestQueryService {
 
+    private static final int STREAM_BATCH = Integer.parseInt(CareRequestRepository.STREAM_FETCH_SIZE);
+
     private final CareRequestApplicationRepository applicationRepository;
     private final CareRequestRepository careRequestRepository;
+    private final EntityManager entityManager;
 
     public CareRequestQueryService(
             CareRequestApplicationRepository applicationRepository,
-            CareRequestRepository careRequestRepository
+            CareRequestRepository careRequestRepository,
+            EntityManager entityManager
     ) {
         this.applicationRepository = applicationRepository;
         this.careRequestRepository = careRequestRepository;
+        this.entityManager = entityManager;
     }
 
     @Transactional(readOnly = true)
-    public List<CareRequestApplication> listApplicants(UUID careRequestId) {
+    public List<CaregiverApplicantResponse> listApplicants(UUID careRequestId) {
+
+        checkExists(careRequestId);
+
+        return applicationRepository.findApplicantsByCareRequestId(careRequestId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CareRequestApplicationResponse> listApplications(UUID careRequestId) {
+
+        checkExists(careRequestId);
 
+        return applicationRepository.findApplicationsByCareRequestId(careRequestId);
+    }
+
+    @Transactional(readOnly = true)
+    public void checkExists(UUID careRequestId) {
         if (!careRequestRepository.existsById(careRequestId)) {
             throw new IllegalArgumentException("Care request not found");
         }
+    }
+
+    public void checkSchedule(CareScheduleFilter schedule) {
+        if (schedule.from() != null && schedule.to() != null && schedule.from().isAfter(schedule.to())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+        if (schedule.windowStart() != null && schedule.windowEnd() != null
+                && !schedule.windowStart().isBefore(schedule.windowEnd())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "windowStart must be before windowEnd");
+        }
+    }
+
+    /**
+     * Hands each open request to {@code sink} as it is read, keeping the persistence context
+     * bounded, so memory stays flat whatever the size of the result.
+     */
+    @Transactional(readOnly = true)
+    public void streamOpenByLocation(
+            String city,
+            String state,
+            CareScheduleFilter schedule,
+            Consumer<CareRequestResponse> sink
+    ) {
+        try (Stream<CareRequest> rows = careRequestRepository.streamByLocation(
+                CareRequestStatus.OPEN, city, state,
+                schedule.from(), schedule.to(), schedule.windowStart(), schedule.windowEnd()
+        )) {
+            drain(rows, CareRequestResponse::from, sink);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void streamApplicants(UUID careRequestId, Consumer<CareRequestApplicationResponse> sink) {
+        try (Stream<CareRequestApplication> rows = applicationRepository.streamByCareRequestId(careRequestId)) {
+            drain(rows, CareRequestApplicationResponse::from, sink);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void streamCaregiverApplications(
+            UUID caregiverProfileId,
+            Consumer<CareRequestApplicationResponse> sink
+    ) {
+        try (Stream<CareRequestApplication> rows =
+                     applicationRepository.streamByCaregiverProfileId(caregiverProfileId)) {
+            drain(rows, CareRequestApplicationResponse::from, sink);
+        }
+    }
+
+    // clear once per fetched batch; rows already handed to the sink are never touched again
+    private <E, T> void drain(Stream<E> rows, Function<E, T> mapper, Consumer<T> sink) {
+        Iterator<E> iterator = rows.iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            sink.accept(mapper.apply(iterator.next()));
+            if (++count % STREAM_BATCH == 0) {
+                entityManager.clear();
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<CareRequestResponse> listOpenByLocation(
+            String city,
+            String state,
+            CareScheduleFilter schedule,
+            CareRequestCursor after,
+            int pageSize
+    ) {
+        Pageable fetch = CareRequestService.fetchLimit(pageSize);
+
+        List<CareRequestRow> rows;
+        if (after == null) {
+            rows = careRequestRepository.findFirstPageByLocation(
+                    CareRequestStatus.OPEN, city, state,
+                    schedule.from(), schedule.to(), schedule.windowStart(), schedule.windowEnd(),
+                    fetch
+            );
+        } else {
+            rows = careRequestRepository.findPageByLocationAfter(
+                    CareRequestStatus.OPEN, city, state,
+                    schedule.from(), schedule.to(), schedule.windowStart(), schedule.windowEnd(),
+                    after.careDate(), after.createdAt(), after.id(),
+                    fetch
+            );
+        }
+
+        return CursorPage.of(rows, pageSize, row -> CareRequestCursor.after(row).encode())
+                .map(CareRequestResponse::from);
+    }
+
+    @Transactional(readOnly = true)
+    public List<NearbyResult<CareRequestResponse>> listOpenNearby(
+            GeoPoint center,
+            double radiusKm,
+            int limit
+    ) {
+        List<NearbyHit> hits = careRequestRepository.findOpenNearby(
+                NearbySearch.cells(center, radiusKm), center.latitude(), center.longitude(), radiusKm,
+                PageRequest.of(0, limit)
+        );
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        return NearbySearch.results(
+                hits,
+                careRequestRepository.findRowsByIdIn(NearbySearch.ids(hits)),
+                CareRequestRow::id,
+                CareRequestResponse::from
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<CareRequestResponse> searchOpen(
+            String query,
+            String city,
+            String state,
+            CareScheduleFilter schedule,
+            CareRequestSearchCursor after,
+            int pageSize
+    ) {
+        Pageable fetch = CareRequestService.fetchLimit(pageSize);
+
+        List<SearchHit> hits;
+        if (after == null) {
+            hits = careRequestRepository.searchOpen(
+                    query, city, state,
+                    schedule.from(), schedule.to(), schedule.windowStart(), schedule.windowEnd(),
+                    fetch
+            );
+        } else {
+            hits = careRequestRepository.searchOpenAfter(
+                    query, city, state,
+                    schedule.from(), schedule.to(), schedule.windowStart(), schedule.windowEnd(),
+                    after.rank(), after.id(), fetch
+            );
+        }
+
+        CursorPage<SearchHit> page = CursorPage.of(
+                hits, pageSize, hit -> new CareRequestSearchCursor(hit.getRank(), hit.getId()).encode()
+        );
+
+        Map<UUID, CareRequestRow> byId = careRequestRepository
+                .findRowsByIdIn(page.items().stream().map(SearchHit::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(CareRequestRow::id, Function.identity()));
+
+        List<CareRequestResponse> items = page.items().stream()
+                .map(hit -> byId.get(hit.getId()))
+                .filter(Objects::nonNull)
+                .map(CareRequestResponse::from)
+                .toList();
 
-        return applicationRepository.findByCareRequestId(careRequestId);
+        return new CursorPage<>(items, page.next());
     }
 }
@@ -0,0 +1,181 @@
+package br.com.caregiverapp.service;
+
+import br.com.caregiverapp.domain.event.CareRequestAssignedEvent;
+import br.com.caregiverapp.domain.event.CareRequestCreatedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoded JSON (plain and gzip) of unfiltered listing pages, so a hot page is served as a
+ * byte copy without mapping or serializing anything.
+ *
+ * <p>Keys carry the listing ETag from {@link CareRequestChangeTracker}, so a page computed
+ * before a change can never be served after it, wherever the change was made. Entries for a
+ * location are also dropped as soon as a request there is created or assigned here, and the
+ * least recently used entries go once {@code max-entries} or {@code max-size} is exceeded.
+ */
+@Component
+public class CareRequestResponseCache {
+
+    public record Key(String etag, String city, String state, String cursor, int pageSize) {
+
+        boolean covers(String city, String state) {
+            return (this.city == null || this.city.equals(city))
+                    && (this.state == null || this.state.equals(state));
+        }
+    }
+
+    public record Entry(byte[] json, byte[] gzip) {
+
+        long size() {
+            return json.length + gzip.length;
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long maxBytes;
+
+    // access order: iteration starts at the least recently used entry
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public CareRequestResponseCache(
+            ObjectMapper objectMapper,
+            @Value("${caregiverapp.listing-response-cache.enabled:true}") boolean enabled,
+            @Value("${caregiverapp.listing-response-cache.max-entries:2000}") int maxEntries,
+            @Value("${caregiverapp.listing-response-cache.max-size:32MB}") DataSize maxSize
+    ) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxSize.toBytes();
+    }
+
+    public static Key key(String etag, String city, String state, String cursor, Integer limit) {
+        return new Key(etag, city, state, cursor, CareRequestService.pageSize(limit));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Entry get(Key key, Supplier<?> loader) {
+        if (!enabled) {
+            return encode(loader.get());
+        }
+
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+
+        misses.increment();
+        Entry loaded = encode(loader.get());
+
+        synchronized (this) {
+            Entry previous = entries.put(key, loaded);
+            if (previous != null) {
+                bytes -= previous.size();
+            }
+            bytes += loaded.size();
+            evictOverflow();
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener
+    public void onCreated(CareRequestCreatedEvent event) {
+        invalidate(event.careRequest().getCity(), event.careRequest().getState());
+    }
+
+    @TransactionalEventListener
+    public void onAssigned(CareRequestAssignedEvent event) {
+        invalidate(event.city(), event.state());
+    }
+
+    public synchronized void invalidate(String city, String state) {
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Entry> entry = iterator.next();
+            if (entry.getKey().covers(city, state)) {
+                bytes -= entry.getValue().size();
+                iterator.remove();
+                invalidations.increment();
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long sizeInBytes() {
+        return bytes;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public long invalidationCount() {
+        return invalidations.sum();
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || bytes > maxBytes) && iterator.hasNext()) {
+            bytes -= iterator.next().getValue().size();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private Entry encode(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(Objects.requireNonNull(body));
+
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                gzip.write(json);
+            }
+            return new Entry(json, buffer.toByteArray());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize listing", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
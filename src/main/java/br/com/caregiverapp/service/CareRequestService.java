@@ -1,14 +1,29 @@
 package br.com.caregiverapp.service;
 
+import br.com.caregiverapp.domain.dto.CareRequestCursor;
+import br.com.caregiverapp.domain.dto.CareRequestResponse;
+import br.com.caregiverapp.domain.dto.CareRequestSearchCursor;
+import br.com.caregiverapp.domain.dto.CareScheduleFilter;
 import br.com.caregiverapp.domain.dto.CreateCareRequestRequest;
+import br.com.caregiverapp.domain.dto.CursorPage;
+import br.com.caregiverapp.domain.dto.NearbyResult;
+import br.com.caregiverapp.domain.event.CareRequestCreatedEvent;
+import br.com.caregiverapp.domain.geo.GeoPoint;
 import br.com.caregiverapp.domain.model.*;
 import br.com.caregiverapp.exception.ProfileNotFoundException;
 import br.com.caregiverapp.exception.ResourceNotFoundException;
 import br.com.caregiverapp.repository.CareRequestRepository;
+import br.com.caregiverapp.repository.CaregiverProfileRepository;
 import br.com.caregiverapp.repository.ElderProfileRepository;
 import br.com.caregiverapp.security.AuthenticatedUserService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.UUID;
@@ -16,33 +31,57 @@ import java.util.UUID;
 @Service
 public class CareRequestService {
 
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_QUERY_LENGTH = 200;
+
     private final CareRequestRepository careRequestRepository;
     private final ElderProfileRepository elderProfileRepository;
+    private final CaregiverProfileRepository caregiverProfileRepository;
     private final AuthenticatedUserService authenticatedUserService;
+    private final CareRequestQueryService queryService;
+    private final OpenCareRequestIndex openIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean verifyIndex;
 
     public CareRequestService(
             CareRequestRepository careRequestRepository,
             ElderProfileRepository elderProfileRepository,
-            AuthenticatedUserService authenticatedUserService
+            CaregiverProfileRepository caregiverProfileRepository,
+            AuthenticatedUserService authenticatedUserService,
+            CareRequestQueryService queryService,
+            OpenCareRequestIndex openIndex,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${caregiverapp.care-request-index.verify:false}") boolean verifyIndex
     ) {
         this.careRequestRepository = careRequestRepository;
         this.elderProfileRepository = elderProfileRepository;
+        this.caregiverProfileRepository = caregiverProfileRepository;
         this.authenticatedUserService = authenticatedUserService;
+        this.queryService = queryService;
+        this.openIndex = openIndex;
+        this.eventPublisher = eventPublisher;
+        this.verifyIndex = verifyIndex;
     }
 
     @Transactional
     public CareRequest create(CreateCareRequestRequest req) {
 
-        User user = authenticatedUserService.getCurrentUser();
-
-        ElderProfile elderProfile = elderProfileRepository
-                .findByUserId(user.getId())
+        UUID elderProfileId = authenticatedUserService.getCurrentElderProfileId()
                 .orElseThrow(() ->
                         new ProfileNotFoundException(
                                 "You must create an elder profile first"
                         )
                 );
 
+        ElderProfile elderProfile = elderProfileRepository.getReferenceById(elderProfileId);
+
+
+        // falls back to the elder's own location, which loads the profile only in that case
+        GeoPoint location = GeoPoint.of(req.latitude(), req.longitude());
+        if (location == null) {
+            location = elderProfile.getLocation();
+        }
 
         CareRequest request = new CareRequest(
                 elderProfile,
@@ -54,22 +93,121 @@ public class CareRequestService {
                 req.state()
         );
 
-        return careRequestRepository.save(request);
+        request.setLocation(location);
+
+        CareRequest saved = careRequestRepository.save(request);
+        eventPublisher.publishEvent(new CareRequestCreatedEvent(saved));
+
+        return saved;
     }
 
-    @Transactional(readOnly = true)
-    public List<CareRequest> listOpenByLocation(String city, String state) {
-        if (city != null && state != null) {
-            return careRequestRepository.findByCityAndStateAndStatus(
-                    city, state, CareRequestStatus.OPEN
+    /**
+     * Served from {@link OpenCareRequestIndex} while it holds every write counted in
+     * {@code version}, from the database otherwise (always, without a version).
+     * A non-blank {@code query} switches to ranked full-text search, which always hits the database.
+     * With {@code matchAvailability} the time window comes from the caller's caregiver profile.
+     * Deliberately not transactional so the index path never takes a connection.
+     */
+    public CursorPage<CareRequestResponse> listOpenByLocation(
+            String city,
+            String state,
+            String query,
+            CareScheduleFilter schedule,
+            boolean matchAvailability,
+            String cursor,
+            Integer limit,
+            CareRequestChangeTracker.ListingVersion version
+    ) {
+        if (matchAvailability) {
+            schedule = withAvailabilityWindow(schedule);
+        }
+        queryService.checkSchedule(schedule);
+
+        if (query != null && !query.isBlank()) {
+            if (query.length() > MAX_QUERY_LENGTH) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search query too long");
+            }
+            CareRequestSearchCursor after = cursor != null ? CareRequestSearchCursor.decode(cursor) : null;
+            return queryService.searchOpen(query, city, state, schedule, after, pageSize(limit));
+        }
+
+        int pageSize = pageSize(limit);
+        CareRequestCursor after = cursor != null ? CareRequestCursor.decode(cursor) : null;
+
+        if (!openIndex.isCurrent(version)) {
+            return queryService.listOpenByLocation(city, state, schedule, after, pageSize);
+        }
+
+        CursorPage<CareRequestResponse> page = openIndex.findOpen(city, state, schedule, after, pageSize);
+
+        if (verifyIndex) {
+            CursorPage<CareRequestResponse> fromDatabase =
+                    queryService.listOpenByLocation(city, state, schedule, after, pageSize);
+            openIndex.verify(page, fromDatabase, city, state);
+        }
+
+        return page;
+    }
+
+    private CareScheduleFilter withAvailabilityWindow(CareScheduleFilter schedule) {
+        CaregiverProfile profile = authenticatedUserService.getCurrentCaregiverProfileId()
+                .flatMap(caregiverProfileRepository::findById)
+                .orElseThrow(() ->
+                        new ProfileNotFoundException("You must create a caregiver profile first")
+                );
+
+        if (profile.getAvailableFrom() == null || profile.getAvailableTo() == null) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Your profile has no availability window"
             );
-        } else if (city != null) {
-            return careRequestRepository.findByCityAndStatus(city, CareRequestStatus.OPEN);
-        } else if (state != null) {
-            return careRequestRepository.findByStateAndStatus(state, CareRequestStatus.OPEN);
-        } else {
-            return careRequestRepository.findByStatus(CareRequestStatus.OPEN);
         }
+
+        return schedule.withWindow(profile.getAvailableFrom(), profile.getAvailableTo());
+    }
+
+    /**
+     * Open requests within {@code radiusKm} of the given point, or of the caller's caregiver
+     * profile location when no point is given, closest first.
+     */
+    public List<NearbyResult<CareRequestResponse>> listOpenNearby(
+            Double latitude,
+            Double longitude,
+            Double radiusKm,
+            Integer limit
+    ) {
+        double radius = NearbySearch.radiusKm(radiusKm);
+        GeoPoint requested = GeoPoint.of(latitude, longitude);
+
+        GeoPoint profileLocation = null;
+        if (requested == null) {
+            profileLocation = authenticatedUserService.getCurrentCaregiverProfileId()
+                    .flatMap(caregiverProfileRepository::findById)
+                    .map(CaregiverProfile::getLocation)
+                    .orElse(null);
+        }
+
+        GeoPoint center = NearbySearch.requireCenter(requested, profileLocation);
+        return queryService.listOpenNearby(center, radius, pageSize(limit));
+    }
+
+    static int pageSize(Integer limit) {
+        if (limit == null || limit < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    // one row past the page tells whether there is a next one
+    static Pageable fetchLimit(int pageSize) {
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    public long getVersion(UUID id) {
+
+        return careRequestRepository.findVersionById(id)
+                .orElseThrow(() ->
+                        new ResourceNotFoundException("Care request not found")
+                );
     }
 
     public CareRequest getById(UUID id) {
@@ -1,37 +1,47 @@
 package br.com.caregiverapp.service;
 
+import br.com.caregiverapp.domain.dto.CareRequestApplicationResponse;
+import br.com.caregiverapp.domain.dto.CaregiverProfileResponse;
 import br.com.caregiverapp.domain.dto.CreateCaregiverProfileRequest;
+import br.com.caregiverapp.domain.dto.NearbyResult;
 import br.com.caregiverapp.domain.dto.UpdateCaregiverProfileRequest;
+import br.com.caregiverapp.domain.geo.GeoPoint;
 import br.com.caregiverapp.domain.model.*;
 import br.com.caregiverapp.repository.CareRequestApplicationRepository;
 import br.com.caregiverapp.repository.CaregiverProfileRepository;
+import br.com.caregiverapp.repository.ElderProfileRepository;
+import br.com.caregiverapp.repository.NearbyHit;
 import br.com.caregiverapp.security.AuthenticatedUserService;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.UUID;
 
 @Service
 public class CaregiverProfileService {
 
     private final CaregiverProfileRepository profileRepository;
     private final CareRequestApplicationRepository applicationRepository;
+    private final ElderProfileRepository elderProfileRepository;
     private final AuthenticatedUserService authenticatedUserService;
 
     public CaregiverProfileService(
             CaregiverProfileRepository profileRepository,
             CareRequestApplicationRepository applicationRepository,
+            ElderProfileRepository elderProfileRepository,
             AuthenticatedUserService authenticatedUserService
     ) {
         this.profileRepository = profileRepository;
         this.applicationRepository = applicationRepository;
+        this.elderProfileRepository = elderProfileRepository;
         this.authenticatedUserService = authenticatedUserService;
     }
 
     @Transactional(readOnly = true)
     public CaregiverProfile getProfile() {
-        User user = authenticatedUserService.getCurrentUser();
-        return profileRepository.findByUserId(user.getId())
+        return profileRepository.findById(getProfileId())
                 .orElseThrow(() -> new IllegalStateException("Caregiver profile not found"));
     }
 
@@ -47,14 +57,14 @@ public class CaregiverProfileService {
         profile.setCity(req.city());
         profile.setState(req.state());
         profile.setSkillsFromList(req.skills());
+        profile.setLocation(GeoPoint.of(req.latitude(), req.longitude()));
 
         return profileRepository.save(profile);
     }
 
     @Transactional(readOnly = true)
-    public List<CareRequestApplication> listApplications() {
-        CaregiverProfile profile = getProfile();
-        return applicationRepository.findByCaregiverProfileId(profile.getId());
+    public List<CareRequestApplicationResponse> listApplications() {
+        return applicationRepository.findApplicationsByCaregiverProfileId(getProfileId());
     }
 
     @Transactional
@@ -81,7 +91,52 @@ public class CaregiverProfileService {
                 req.state(),
                 req.skills()
         );
+        profile.setLocation(GeoPoint.of(req.latitude(), req.longitude()));
 
         return profileRepository.save(profile);
     }
+
+    /**
+     * Caregivers within {@code radiusKm} of the given point, or of the caller's elder profile
+     * location when no point is given, closest first.
+     */
+    @Transactional(readOnly = true)
+    public List<NearbyResult<CaregiverProfileResponse>> findNearby(
+            Double latitude,
+            Double longitude,
+            Double radiusKm,
+            Integer limit
+    ) {
+        double radius = NearbySearch.radiusKm(radiusKm);
+        GeoPoint requested = GeoPoint.of(latitude, longitude);
+
+        GeoPoint profileLocation = null;
+        if (requested == null) {
+            profileLocation = authenticatedUserService.getCurrentElderProfileId()
+                    .flatMap(elderProfileRepository::findById)
+                    .map(ElderProfile::getLocation)
+                    .orElse(null);
+        }
+
+        GeoPoint center = NearbySearch.requireCenter(requested, profileLocation);
+        List<NearbyHit> hits = profileRepository.findNearby(
+                NearbySearch.cells(center, radius), center.latitude(), center.longitude(), radius,
+                PageRequest.of(0, CareRequestService.pageSize(limit))
+        );
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        return NearbySearch.results(
+                hits,
+                profileRepository.findByIdIn(NearbySearch.ids(hits)),
+                CaregiverProfile::getId,
+                CaregiverProfileResponse::from
+        );
+    }
+
+    public UUID getProfileId() {
+        return authenticatedUserService.getCurrentCaregiverProfileId()
+                .orElseThrow(() -> new IllegalStateException("Caregiver profile not found"));
+    }
 }
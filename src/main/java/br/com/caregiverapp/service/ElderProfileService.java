@@ -1,18 +1,23 @@
 package br.com.caregiverapp.service;
 
+import br.com.caregiverapp.domain.dto.CareRequestCursor;
 import br.com.caregiverapp.domain.dto.CareRequestResponse;
+import br.com.caregiverapp.domain.dto.CareRequestRow;
 import br.com.caregiverapp.domain.dto.CreateElderProfileRequest;
+import br.com.caregiverapp.domain.dto.CursorPage;
 import br.com.caregiverapp.domain.dto.UpdateElderProfileRequest;
-import br.com.caregiverapp.domain.model.CareRequest;
+import br.com.caregiverapp.domain.geo.GeoPoint;
 import br.com.caregiverapp.domain.model.ElderProfile;
 import br.com.caregiverapp.domain.model.User;
 import br.com.caregiverapp.exception.ProfileNotFoundException;
 import br.com.caregiverapp.repository.CareRequestRepository;
 import br.com.caregiverapp.repository.ElderProfileRepository;
 import br.com.caregiverapp.security.AuthenticatedUserService;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.UUID;
 
 @Service
 public class ElderProfileService {
@@ -31,9 +36,7 @@ public class ElderProfileService {
     }
 
     public ElderProfile getProfile() {
-        User user = authenticatedUserService.getCurrentUser();
-
-        return repository.findByUserId(user.getId())
+        return repository.findById(getProfileId("Elder profile not found"))
                 .orElseThrow(() ->
                         new ProfileNotFoundException("Elder profile not found")
                 );
@@ -52,18 +55,14 @@ public class ElderProfileService {
                 request.city(),
                 request.state()
         );
+        profile.setLocation(GeoPoint.of(request.latitude(), request.longitude()));
 
         return repository.save(profile);
     }
 
     public ElderProfile update(UpdateElderProfileRequest request) {
 
-        User user = authenticatedUserService.getCurrentUser();
-
-        ElderProfile profile = repository.findByUserId(user.getId())
-                .orElseThrow(() ->
-                        new ProfileNotFoundException("Elder profile not found")
-                );
+        ElderProfile profile = getProfile();
 
         if (request.phone() != null) {
             profile.setPhone(request.phone());
@@ -89,26 +88,36 @@ public class ElderProfileService {
             profile.setState(request.state());
         }
 
+        GeoPoint location = GeoPoint.of(request.latitude(), request.longitude());
+        if (location != null) {
+            profile.setLocation(location);
+        }
+
         return repository.save(profile);
     }
 
-    public List<CareRequestResponse> getMyRequests() {
-        User user = authenticatedUserService.getCurrentUser();
-
-        ElderProfile profile = repository
-                .findByUserId(user.getId())
-                .orElseThrow(() -> new ProfileNotFoundException("Profile not found"));
-
-
+    public CursorPage<CareRequestResponse> getMyRequests(String cursor, Integer limit) {
+        UUID profileId = getProfileId("Profile not found");
+        int pageSize = CareRequestService.pageSize(limit);
+        Pageable fetch = CareRequestService.fetchLimit(pageSize);
+
+        List<CareRequestRow> rows;
+        if (cursor == null) {
+            rows = careRequestRepository.findFirstPageByElderProfileId(profileId, fetch);
+        } else {
+            CareRequestCursor after = CareRequestCursor.decode(cursor);
+            rows = careRequestRepository.findPageByElderProfileIdAfter(
+                    profileId, after.careDate(), after.createdAt(), after.id(), fetch
+            );
+        }
 
-        return careRequestRepository.findByElderProfileId(profile.getId())
-                .stream()
-                .map(this::toResponse)
-                .toList();
+        return CursorPage.of(rows, pageSize, row -> CareRequestCursor.after(row).encode())
+                .map(CareRequestResponse::from);
     }
 
-    private CareRequestResponse toResponse(CareRequest entity) {
-        return CareRequestResponse.from(entity);
+    private UUID getProfileId(String notFoundMessage) {
+        return authenticatedUserService.getCurrentElderProfileId()
+                .orElseThrow(() -> new ProfileNotFoundException(notFoundMessage));
     }
 
 
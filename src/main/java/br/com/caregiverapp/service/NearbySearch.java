@@ -0,0 +1,82 @@
+package br.com.caregiverapp.service;
+
+import br.com.caregiverapp.domain.dto.NearbyResult;
+import br.com.caregiverapp.domain.geo.GeoHash;
+import br.com.caregiverapp.domain.geo.GeoPoint;
+import br.com.caregiverapp.repository.NearbyHit;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Radius search in two steps: the repository finds the closest ids within the radius, using
+ * the geohash cells around the centre to stay on the index, then the page of rows is read by
+ * id and put back in distance order by {@link #results}.
+ */
+final class NearbySearch {
+
+    static final double DEFAULT_RADIUS_KM = 10;
+    static final double MAX_RADIUS_KM = 50;
+
+    private NearbySearch() {}
+
+    static double radiusKm(Double radiusKm) {
+        if (radiusKm == null) {
+            return DEFAULT_RADIUS_KM;
+        }
+        if (!(radiusKm > 0) || radiusKm > MAX_RADIUS_KM) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "radiusKm must be between 0 and " + MAX_RADIUS_KM
+            );
+        }
+        return radiusKm;
+    }
+
+    static List<String> cells(GeoPoint center, double radiusKm) {
+        try {
+            return GeoHash.cellsWithin(center.latitude(), center.longitude(), radiusKm);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    static GeoPoint requireCenter(GeoPoint requested, GeoPoint profileLocation) {
+        if (requested != null) {
+            return requested;
+        }
+        if (profileLocation == null) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "Latitude and longitude are required when your profile has no location"
+            );
+        }
+        return profileLocation;
+    }
+
+    static List<UUID> ids(List<NearbyHit> hits) {
+        return hits.stream().map(NearbyHit::getId).toList();
+    }
+
+    /**
+     * The rows read for the hits, in the order and with the distance of the hits. Rows gone
+     * since the search are left out.
+     */
+    static <E, T> List<NearbyResult<T>> results(
+            List<NearbyHit> hits,
+            List<E> rows,
+            Function<E, UUID> id,
+            Function<E, T> mapper
+    ) {
+        Map<UUID, E> byId = rows.stream().collect(Collectors.toMap(id, Function.identity()));
+
+        return hits.stream()
+                .filter(hit -> byId.containsKey(hit.getId()))
+                .map(hit -> new NearbyResult<>(mapper.apply(byId.get(hit.getId())), hit.getDistanceKm()))
+                .toList();
+    }
+}
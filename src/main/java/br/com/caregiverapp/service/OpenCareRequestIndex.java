@@ -0,0 +1,333 @@
+package br.com.caregiverapp.service;
+
+import br.com.caregiverapp.domain.dto.CareRequestCursor;
+import br.com.caregiverapp.domain.dto.CareRequestResponse;
+import br.com.caregiverapp.domain.dto.CareRequestRow;
+import br.com.caregiverapp.domain.dto.CareScheduleFilter;
+import br.com.caregiverapp.domain.dto.CursorPage;
+import br.com.caregiverapp.domain.event.CareRequestAssignedEvent;
+import br.com.caregiverapp.domain.event.CareRequestCreatedEvent;
+import br.com.caregiverapp.domain.model.CareRequestStatus;
+import br.com.caregiverapp.repository.CareRequestRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process read model of OPEN care requests for the marketplace listing.
+ *
+ * <p>Each request is kept in four sorted partitions (all, by state, by city, by state and city)
+ * so every filter combination is a single range scan in the same (care_date, created_at, id)
+ * order the database uses, and cursors stay interchangeable between the two.
+ *
+ * <p>Kept current by the events published after create/assign commits, and fully rebuilt on
+ * startup and periodically to pick up writes made by other instances. Whether it is current
+ * is told by {@link #isCurrent} against the shared counter of {@link CareRequestChangeTracker}.
+ */
+@Component
+public class OpenCareRequestIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenCareRequestIndex.class);
+
+    // must match Postgres ordering: uuid compares as unsigned bytes, timestamptz by instant
+    static final Comparator<CareRequestCursor> ORDER = Comparator
+            .comparing(CareRequestCursor::careDate)
+            .thenComparing(CareRequestCursor::createdAt, OffsetDateTime.timeLineOrder())
+            .thenComparing(CareRequestCursor::id, OpenCareRequestIndex::compareUnsigned);
+
+    private static final String ALL = "*";
+    private static final UUID MIN_ID = new UUID(0, 0);
+
+    private final CareRequestRepository careRequestRepository;
+    private final CareRequestChangeTracker changeTracker;
+    private final boolean enabled;
+
+    private volatile Snapshot snapshot = new Snapshot();
+    private volatile boolean ready;
+    private volatile Instant lastRebuildAt;
+    private volatile Instant lastChangeAt;
+
+    // the all-locations counter of CareRequestChangeTracker this snapshot reflects: the value
+    // read when its rebuild started, plus one for every write applied since
+    private volatile long appliedVersion;
+
+    // events seen while a rebuild is loading, replayed onto the new snapshot before it is published
+    private List<Object> eventsDuringRebuild;
+
+    private final LongAdder mismatches = new LongAdder();
+
+    public OpenCareRequestIndex(
+            CareRequestRepository careRequestRepository,
+            CareRequestChangeTracker changeTracker,
+            @Value("${caregiverapp.care-request-index.enabled:true}") boolean enabled
+    ) {
+        this.careRequestRepository = careRequestRepository;
+        this.changeTracker = changeTracker;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * Whether the snapshot holds every write counted in {@code version}. A write made by
+     * another instance, or one whose event has not reached this instance yet, makes it
+     * behind until the next rebuild; callers then read from the database.
+     */
+    public boolean isCurrent(CareRequestChangeTracker.ListingVersion version) {
+        return isReady() && version != null && version.all() == appliedVersion;
+    }
+
+    public CursorPage<CareRequestResponse> findOpen(
+            String city,
+            String state,
+            CareScheduleFilter schedule,
+            CareRequestCursor after,
+            int pageSize
+    ) {
+        NavigableMap<CareRequestCursor, CareRequestResponse> partition =
+                snapshot.partitions.get(partitionKey(city, state));
+
+        if (partition == null) {
+            return new CursorPage<>(List.of(), null);
+        }
+
+        // partitions are ordered by care_date first, so the date range is a sub-range scan;
+        // the start-of-day key never matches a real entry, so excluding it is harmless
+        CareRequestCursor start = after;
+        if (schedule.from() != null) {
+            CareRequestCursor startOfDay = new CareRequestCursor(schedule.from(), OffsetDateTime.MIN, MIN_ID);
+            if (start == null || ORDER.compare(startOfDay, start) > 0) {
+                start = startOfDay;
+            }
+        }
+
+        NavigableMap<CareRequestCursor, CareRequestResponse> view =
+                start != null ? partition.tailMap(start, false) : partition;
+
+        List<Map.Entry<CareRequestCursor, CareRequestResponse>> rows = new ArrayList<>(pageSize + 1);
+        for (Map.Entry<CareRequestCursor, CareRequestResponse> entry : view.entrySet()) {
+            if (schedule.to() != null && entry.getKey().careDate().isAfter(schedule.to())) {
+                break;
+            }
+            if (!schedule.isEmpty() && !matches(schedule, entry.getKey(), entry.getValue())) {
+                continue;
+            }
+            rows.add(entry);
+            if (rows.size() > pageSize) {
+                break;
+            }
+        }
+
+        return CursorPage.of(rows, pageSize, row -> row.getKey().encode())
+                .map(Map.Entry::getValue);
+    }
+
+    /**
+     * Consistency check mode: compares a page served by the index with the database.
+     */
+    public void verify(
+            CursorPage<CareRequestResponse> fromIndex,
+            CursorPage<CareRequestResponse> fromDatabase,
+            String city,
+            String state
+    ) {
+        List<UUID> indexIds = fromIndex.items().stream().map(CareRequestResponse::id).toList();
+        List<UUID> databaseIds = fromDatabase.items().stream().map(CareRequestResponse::id).toList();
+
+        if (!indexIds.equals(databaseIds)) {
+            mismatches.increment();
+            log.warn(
+                    "Open care request index diverged from database for city={} state={}: index={} database={}",
+                    city, state, indexIds, databaseIds
+            );
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${caregiverapp.care-request-index.rebuild-interval:PT5M}",
+            initialDelayString = "${caregiverapp.care-request-index.rebuild-interval:PT5M}"
+    )
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        synchronized (this) {
+            eventsDuringRebuild = new ArrayList<>();
+        }
+
+        long rebuiltVersion;
+        Snapshot rebuilt = new Snapshot();
+        try {
+            rebuiltVersion = changeTracker.version(null, null).all();
+            for (CareRequestRow row : careRequestRepository.findByStatus(CareRequestStatus.OPEN)) {
+                rebuilt.add(row);
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                eventsDuringRebuild = null;
+            }
+            log.error("Could not rebuild open care request index", e);
+            return;
+        }
+
+        synchronized (this) {
+            eventsDuringRebuild.forEach(rebuilt::apply);
+            appliedVersion = rebuiltVersion + eventsDuringRebuild.size();
+            eventsDuringRebuild = null;
+            snapshot = rebuilt;
+            lastRebuildAt = Instant.now();
+            ready = true;
+        }
+
+        log.info("Open care request index rebuilt with {} requests", rebuilt.entries.size());
+    }
+
+    @TransactionalEventListener
+    public synchronized void onCreated(CareRequestCreatedEvent event) {
+        apply(event);
+    }
+
+    @TransactionalEventListener
+    public synchronized void onAssigned(CareRequestAssignedEvent event) {
+        apply(event);
+    }
+
+    public int size() {
+        return snapshot.entries.size();
+    }
+
+    public Duration staleness() {
+        Instant rebuiltAt = lastRebuildAt;
+        return rebuiltAt != null ? Duration.between(rebuiltAt, Instant.now()) : Duration.ZERO;
+    }
+
+    public Instant getLastChangeAt() {
+        return lastChangeAt;
+    }
+
+    public long mismatchCount() {
+        return mismatches.sum();
+    }
+
+    private void apply(Object event) {
+        if (!enabled) {
+            return;
+        }
+        snapshot.apply(event);
+        appliedVersion++;
+        if (eventsDuringRebuild != null) {
+            eventsDuringRebuild.add(event);
+        }
+        lastChangeAt = Instant.now();
+    }
+
+    private static boolean matches(
+            CareScheduleFilter schedule,
+            CareRequestCursor key,
+            CareRequestResponse response
+    ) {
+        return schedule.matches(
+                key.careDate(),
+                LocalTime.parse(response.startTime()),
+                LocalTime.parse(response.endTime())
+        );
+    }
+
+    private static String partitionKey(String city, String state) {
+        if (city != null && state != null) {
+            return "state-city:" + state + "\u0000" + city;
+        } else if (city != null) {
+            return "city:" + city;
+        } else if (state != null) {
+            return "state:" + state;
+        }
+        return ALL;
+    }
+
+    private static List<String> partitionKeys(String city, String state) {
+        return List.of(
+                ALL,
+                partitionKey(null, state),
+                partitionKey(city, null),
+                partitionKey(city, state)
+        );
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0
+                ? high
+                : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static final class Snapshot {
+
+        private final Map<String, ConcurrentSkipListMap<CareRequestCursor, CareRequestResponse>> partitions =
+                new ConcurrentHashMap<>();
+
+        private final Map<UUID, Indexed> entries = new ConcurrentHashMap<>();
+
+        void apply(Object event) {
+            if (event instanceof CareRequestCreatedEvent created) {
+                add(CareRequestRow.of(created.careRequest()));
+            } else if (event instanceof CareRequestAssignedEvent assigned) {
+                remove(assigned.careRequestId());
+            }
+        }
+
+        void add(CareRequestRow row) {
+            if (row.status() != CareRequestStatus.OPEN) {
+                return;
+            }
+
+            // timestamptz keeps microseconds; truncate so cursors compare the same as in SQL
+            CareRequestCursor key = new CareRequestCursor(
+                    row.careDate(),
+                    row.createdAt().truncatedTo(ChronoUnit.MICROS),
+                    row.id()
+            );
+            Indexed indexed = new Indexed(key, row.city(), row.state());
+            CareRequestResponse response = CareRequestResponse.from(row);
+
+            entries.put(row.id(), indexed);
+            for (String partition : partitionKeys(indexed.city(), indexed.state())) {
+                partitions.computeIfAbsent(partition, ignored -> new ConcurrentSkipListMap<>(ORDER))
+                        .put(key, response);
+            }
+        }
+
+        void remove(UUID careRequestId) {
+            Indexed indexed = entries.remove(careRequestId);
+            if (indexed == null) {
+                return;
+            }
+            for (String partition : partitionKeys(indexed.city(), indexed.state())) {
+                Map<CareRequestCursor, CareRequestResponse> sorted = partitions.get(partition);
+                if (sorted != null) {
+                    sorted.remove(indexed.key());
+                }
+            }
+        }
+    }
+
+    private record Indexed(CareRequestCursor key, String city, String state) {}
+}
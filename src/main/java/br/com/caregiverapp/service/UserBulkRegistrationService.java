@@ -0,0 +1,161 @@
+package br.com.caregiverapp.service;
+
+import br.com.caregiverapp.domain.dto.BulkRegisterResponse;
+import br.com.caregiverapp.domain.dto.BulkRegisterResult;
+import br.com.caregiverapp.domain.dto.RegisterRequest;
+import br.com.caregiverapp.domain.model.UserRole;
+import br.com.caregiverapp.domain.model.UuidV7Generator;
+import br.com.caregiverapp.security.PasswordHashingService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.*;
+
+@Service
+public class UserBulkRegistrationService {
+
+    // ON CONFLICT keeps the batch going when an email already exists; that row reports 0 updates
+    private static final String INSERT_USER = """
+            INSERT INTO users (id, full_name, email, password_hash, role)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (email) DO NOTHING
+            """;
+
+    // users.email and users.full_name: a longer value would fail the whole batch, not just its row
+    private static final int MAX_EMAIL_LENGTH = 255;
+    private static final int MAX_FULL_NAME_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordHashingService passwordHashingService;
+    private final int batchSize;
+    private final int maxRows;
+
+    public UserBulkRegistrationService(
+            JdbcTemplate jdbcTemplate,
+            PasswordHashingService passwordHashingService,
+            @Value("${caregiverapp.admin.bulk-registration.batch-size:500}") int batchSize,
+            @Value("${caregiverapp.admin.bulk-registration.max-rows:5000}") int maxRows
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordHashingService = passwordHashingService;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+    }
+
+    // Not transactional on purpose: hashing thousands of passwords must not hold a connection,
+    // and each row reports its own outcome.
+    public BulkRegisterResponse register(List<RegisterRequest> requests) {
+
+        if (requests.size() > maxRows) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "At most " + maxRows + " users per request"
+            );
+        }
+
+        BulkRegisterResult[] results = new BulkRegisterResult[requests.size()];
+        List<PendingUser> pending = new ArrayList<>();
+        Set<String> seenEmails = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            RegisterRequest request = requests.get(i);
+            String error = validate(request);
+
+            if (error != null) {
+                results[i] = new BulkRegisterResult(
+                        i, request != null ? request.email() : null,
+                        BulkRegisterResult.Status.INVALID, null, error
+                );
+            } else if (!seenEmails.add(request.email())) {
+                results[i] = new BulkRegisterResult(
+                        i, request.email(),
+                        BulkRegisterResult.Status.DUPLICATE, null, "Email repeated in this request"
+                );
+            } else {
+                pending.add(new PendingUser(i, UuidV7Generator.next(), request));
+            }
+        }
+
+        List<String> hashes = passwordHashingService.encodeAll(
+                pending.stream().map(user -> user.request().password()).toList()
+        );
+
+        int[][] counts = jdbcTemplate.batchUpdate(
+                INSERT_USER,
+                indexed(pending, hashes),
+                batchSize,
+                (ps, row) -> {
+                    RegisterRequest request = row.user().request();
+                    ps.setObject(1, row.user().id());
+                    ps.setString(2, fullName(request));
+                    ps.setString(3, request.email());
+                    ps.setString(4, row.passwordHash());
+                    ps.setString(5, request.role().name());
+                }
+        );
+
+        int position = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                PendingUser user = pending.get(position++);
+                results[user.index()] = count > 0
+                        ? new BulkRegisterResult(
+                                user.index(), user.request().email(),
+                                BulkRegisterResult.Status.CREATED, user.id(), null)
+                        : new BulkRegisterResult(
+                                user.index(), user.request().email(),
+                                BulkRegisterResult.Status.DUPLICATE, null, "Email already registered");
+            }
+        }
+
+        int created = (int) Arrays.stream(results)
+                .filter(result -> result.status() == BulkRegisterResult.Status.CREATED)
+                .count();
+
+        return new BulkRegisterResponse(created, results.length - created, List.of(results));
+    }
+
+    private String validate(RegisterRequest request) {
+        if (request == null) {
+            return "Missing user";
+        }
+        if (request.email() == null || request.email().isBlank()) {
+            return "Email is required";
+        }
+        if (request.email().length() > MAX_EMAIL_LENGTH) {
+            return "Email must have at most " + MAX_EMAIL_LENGTH + " characters";
+        }
+        if (request.password() == null || request.password().isBlank()) {
+            return "Password is required";
+        }
+        if (request.firstName() == null || request.lastName() == null) {
+            return "First and last name are required";
+        }
+        if (fullName(request).length() > MAX_FULL_NAME_LENGTH) {
+            return "Full name must have at most " + MAX_FULL_NAME_LENGTH + " characters";
+        }
+        if (request.role() == null || request.role() == UserRole.ADMIN) {
+            return "Role must be CAREGIVER or ELDER";
+        }
+        return null;
+    }
+
+    private static String fullName(RegisterRequest request) {
+        return request.firstName() + " " + request.lastName();
+    }
+
+    private static List<HashedUser> indexed(List<PendingUser> users, List<String> hashes) {
+        List<HashedUser> rows = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            rows.add(new HashedUser(users.get(i), hashes.get(i)));
+        }
+        return rows;
+    }
+
+    private record PendingUser(int index, UUID id, RegisterRequest request) {}
+
+    private record HashedUser(PendingUser user, String passwordHash) {}
+}
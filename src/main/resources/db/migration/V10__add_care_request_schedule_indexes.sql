@@ -0,0 +1,12 @@
+-- CONCURRENTLY so the indexes can be built on a live database; Flyway runs this
+-- script outside a transaction (see the .conf next to it).
+
+-- Open listing with a date range and/or time window: the care_date range bounds the scan and
+-- start_time/end_time are checked on index entries, so rows outside the window never hit the heap.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_care_requests_open_state_city_schedule
+    ON care_requests (state, city, care_date, start_time, end_time)
+    WHERE status = 'OPEN';
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_care_requests_open_schedule
+    ON care_requests (care_date, start_time, end_time)
+    WHERE status = 'OPEN';
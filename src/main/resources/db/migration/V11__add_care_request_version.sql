@@ -0,0 +1,4 @@
+-- Optimistic lock version; also the ETag of GET /api/care-requests/{id}.
+-- A constant default makes this a catalog-only change.
+ALTER TABLE care_requests
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
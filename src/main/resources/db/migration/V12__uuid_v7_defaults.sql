@@ -0,0 +1,24 @@
+-- Time-ordered UUIDv7 defaults for rows inserted outside the application (the entities
+-- generate their own, see UuidV7Generator). Existing v4 keys stay valid: the column type
+-- is unchanged, new keys simply sort after the old ones.
+-- Postgres 16 has no built-in v7: take a random v4, overwrite the first 48 bits with the
+-- epoch milliseconds and flip the version nibble from 4 to 7.
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS uuid AS
+$$
+SELECT encode(
+               set_bit(
+                       set_bit(
+                               overlay(uuid_send(gen_random_uuid())
+                                       placing substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                                       FROM 1 FOR 6),
+                               52, 1),
+                       53, 1),
+               'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
+
+-- Catalog-only changes, no table rewrite.
+ALTER TABLE users ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE caregiver_profiles ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE elder_profiles ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE care_requests ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE care_request_applications ALTER COLUMN id SET DEFAULT uuid_generate_v7();
@@ -0,0 +1,17 @@
+-- CONCURRENTLY so the index can be built on a live database; Flyway runs this
+-- script outside a transaction (see the .conf next to it).
+
+-- btree_gin lets a GIN index hold plain columns next to the tsvector. It is a trusted
+-- extension, so the database owner can create it.
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+-- Search within a city and/or state: both predicates are answered by one index, so only the
+-- matches in the location are read from the heap. With description_tsv alone in the index,
+-- Postgres underestimates the rows of a location and rechecks the query on every open
+-- request there instead.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_care_requests_open_location_description_tsv
+    ON care_requests USING gin (state, city, description_tsv)
+    WHERE status = 'OPEN';
+
+-- Searches without a location use the description_tsv column of the index above.
+DROP INDEX CONCURRENTLY IF EXISTS idx_care_requests_open_description_tsv;
@@ -0,0 +1,7 @@
+-- Change counters of the open listing, one row per location scope ('*', state, city and
+-- state+city), bumped by every create and assign in the same transaction. The listing ETag
+-- is the counter of its scope, so every instance hands out the same tag for the same data.
+CREATE TABLE care_request_listing_versions (
+    scope   TEXT PRIMARY KEY,
+    version BIGINT NOT NULL
+);
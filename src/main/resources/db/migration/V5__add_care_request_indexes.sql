@@ -0,0 +1,32 @@
+-- CONCURRENTLY so the indexes can be built on a live database; Flyway runs this
+-- script outside a transaction (see the .conf next to it).
+
+-- Open listing by state (+ city) in keyset order: findByCityAndStateAndStatus, findByStateAndStatus,
+-- findFirstPageByLocation / findPageByLocationAfter
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_care_requests_open_state_city
+    ON care_requests (state, city, care_date, created_at, id)
+    WHERE status = 'OPEN';
+
+-- Open listing by city only: findByCityAndStatus
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_care_requests_open_city
+    ON care_requests (city, care_date, created_at, id)
+    WHERE status = 'OPEN';
+
+-- Open listing without location: findByStatus(OPEN), first/next page with no filters
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_care_requests_open_order
+    ON care_requests (care_date, created_at, id)
+    WHERE status = 'OPEN';
+
+-- Elder's own requests: findByElderProfileId and its keyset pages
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_care_requests_elder_profile
+    ON care_requests (elder_profile_id, care_date, created_at, id);
+
+-- FK lookups when a caregiver profile is referenced or removed
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_care_requests_assigned_caregiver
+    ON care_requests (assigned_caregiver_profile_id)
+    WHERE assigned_caregiver_profile_id IS NOT NULL;
+
+-- Caregiver's applications: findByCaregiverProfileId
+-- (care_request_id lookups are already served by uk_request_caregiver)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_applications_caregiver_profile
+    ON care_request_applications (caregiver_profile_id, created_at);
@@ -0,0 +1,17 @@
+-- Nullable and without defaults, so each ALTER is a catalog-only change.
+-- geo_cell is the geohash of the point's cell (see GeoHash.CELL_PRECISION); radius searches
+-- list the cells around the centre and match on it before the exact distance check.
+ALTER TABLE care_requests
+    ADD COLUMN latitude DOUBLE PRECISION,
+    ADD COLUMN longitude DOUBLE PRECISION,
+    ADD COLUMN geo_cell VARCHAR(12);
+
+ALTER TABLE caregiver_profiles
+    ADD COLUMN latitude DOUBLE PRECISION,
+    ADD COLUMN longitude DOUBLE PRECISION,
+    ADD COLUMN geo_cell VARCHAR(12);
+
+ALTER TABLE elder_profiles
+    ADD COLUMN latitude DOUBLE PRECISION,
+    ADD COLUMN longitude DOUBLE PRECISION,
+    ADD COLUMN geo_cell VARCHAR(12);
@@ -0,0 +1,12 @@
+-- CONCURRENTLY so the indexes can be built on a live database; Flyway runs this
+-- script outside a transaction (see the .conf next to it).
+
+-- Open requests near a point: findOpenInCells
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_care_requests_open_geo_cell
+    ON care_requests (geo_cell)
+    WHERE status = 'OPEN' AND geo_cell IS NOT NULL;
+
+-- Caregivers near a point: findInCells
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_caregiver_profiles_geo_cell
+    ON caregiver_profiles (geo_cell)
+    WHERE geo_cell IS NOT NULL;
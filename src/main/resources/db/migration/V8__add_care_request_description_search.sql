@@ -0,0 +1,5 @@
+-- Stored generated column, kept in sync by Postgres on every insert/update of description.
+-- Adding it rewrites care_requests under an exclusive lock; run during a quiet window.
+ALTER TABLE care_requests
+    ADD COLUMN description_tsv tsvector
+        GENERATED ALWAYS AS (to_tsvector('portuguese', coalesce(description, ''))) STORED;
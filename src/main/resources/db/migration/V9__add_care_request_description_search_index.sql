@@ -0,0 +1,7 @@
+-- CONCURRENTLY so the index can be built on a live database; Flyway runs this
+-- script outside a transaction (see the .conf next to it).
+
+-- Full-text search over open requests: searchOpen / searchOpenAfter
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_care_requests_open_description_tsv
+    ON care_requests USING gin (description_tsv)
+    WHERE status = 'OPEN';
@@ -0,0 +1,28 @@
+package br.com.caregiverapp;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.UUID;
+
+/**
+ * Ids of the rows inserted by {@code /db/query-plan-seed.sql}, which derives every id as
+ * {@code md5(key)::uuid}: {@code user-<i>}, {@code caregiver-<i>} (even i), {@code elder-<i>}
+ * (odd i), {@code request-<i>} and {@code application-<i>}.
+ */
+public final class QueryPlanSeed {
+
+    private QueryPlanSeed() {}
+
+    public static UUID seedId(String key) {
+        try {
+            byte[] md5 = MessageDigest.getInstance("MD5")
+                    .digest(key.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(md5);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package br.com.caregiverapp.config;
+
+import br.com.caregiverapp.domain.model.UserRole;
+import br.com.caregiverapp.security.CurrentActor;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing between two embedded Postgres servers standing in for the primary and the replica;
+ * which one served a transaction is told apart by its port.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String PORT = "SELECT current_setting('port')::int";
+
+    private static EmbeddedPostgres primary;
+    private static EmbeddedPostgres replica;
+
+    @BeforeAll
+    static void startServers() throws IOException {
+        primary = EmbeddedPostgres.start();
+        replica = EmbeddedPostgres.start();
+    }
+
+    @AfterAll
+    static void stopServers() throws IOException {
+        primary.close();
+        replica.close();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        Routed routed = route(replica.getPostgresDatabase(), Duration.ofSeconds(10));
+
+        assertThat(routed.port(true)).as("read-only transaction").isEqualTo(replica.getPort());
+        assertThat(routed.port(false)).as("read-write transaction").isEqualTo(primary.getPort());
+        assertThat(routed.jdbc().queryForObject(PORT, Integer.class))
+                .as("outside a transaction").isEqualTo(primary.getPort());
+    }
+
+    @Test
+    void writerReadsFromThePrimaryDuringTheWindow() {
+        Routed routed = route(replica.getPostgresDatabase(), Duration.ofSeconds(10));
+        UUID writer = UUID.randomUUID();
+
+        authenticate(writer);
+        routed.port(false);
+        assertThat(routed.port(true)).as("writer, inside the window").isEqualTo(primary.getPort());
+
+        authenticate(UUID.randomUUID());
+        assertThat(routed.port(true)).as("another user").isEqualTo(replica.getPort());
+    }
+
+    @Test
+    void writerReadsFromTheReplicaOnceTheWindowPasses() {
+        Routed routed = route(replica.getPostgresDatabase(), Duration.ZERO);
+
+        authenticate(UUID.randomUUID());
+        routed.port(false);
+
+        assertThat(routed.port(true)).isEqualTo(replica.getPort());
+    }
+
+    @Test
+    void fallsBackToThePrimaryWhenTheReplicaIsUnreachable() throws IOException {
+        Routed routed = route(unreachable(), Duration.ofSeconds(10));
+
+        assertThat(routed.monitor().isUsable()).isFalse();
+        assertThat(routed.port(true)).isEqualTo(primary.getPort());
+    }
+
+    @Test
+    void fallsBackToThePrimaryWhenAReplicaConnectionFails() throws IOException {
+        DataSource unreachable = unreachable();
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(
+                primary.getPostgresDatabase(), replica.getPostgresDatabase(), Duration.ofSeconds(2)
+        );
+        monitor.check();
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary.getPostgresDatabase(), unreachable, monitor, new ReadYourWritesWindow(Duration.ZERO)
+        );
+        Routed routed = new Routed(new LazyConnectionDataSourceProxy(routing), monitor);
+
+        assertThat(routed.port(true)).isEqualTo(primary.getPort());
+        assertThat(monitor.isUsable()).as("marked until the next check").isFalse();
+        assertThat(routing.primaryFallbackCount()).isEqualTo(1);
+    }
+
+    @Test
+    void fallsBackToThePrimaryWhenTheReplicaStopsReceivingWal() {
+        // everything received is replayed, but the receiver is gone and the primary has moved on
+        Routed routed = route(standby("disconnected", "0/1", "10 minutes"), Duration.ofSeconds(10));
+
+        assertThat(routed.monitor().isUsable()).isFalse();
+        assertThat(routed.monitor().getLag()).isGreaterThan(Duration.ofMinutes(9));
+        assertThat(routed.port(true)).isEqualTo(primary.getPort());
+    }
+
+    @Test
+    void keepsAnIdleReplicaThatHasReplayedEverything() {
+        // no commit for a while, but nothing on the primary is missing
+        Routed routed = route(standby("idle", "FFFFFFFF/FFFFFFFF", "10 minutes"), Duration.ofSeconds(10));
+
+        assertThat(routed.monitor().isUsable()).isTrue();
+        assertThat(routed.port(true)).isEqualTo(replica.getPort());
+    }
+
+    private static Routed route(DataSource replicaDataSource, Duration window) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(
+                primary.getPostgresDatabase(), replicaDataSource, Duration.ofSeconds(2)
+        );
+        monitor.check();
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary.getPostgresDatabase(), replicaDataSource, monitor, new ReadYourWritesWindow(window)
+        );
+        return new Routed(new LazyConnectionDataSourceProxy(routing), monitor);
+    }
+
+    /**
+     * The replica server seen as a standby in recovery: the functions the lag check calls are
+     * shadowed by a schema that comes before {@code pg_catalog} on the search path.
+     */
+    private static DataSource standby(String schema, String replayLsn, String sinceLastReplay) {
+        new JdbcTemplate(replica.getPostgresDatabase()).execute("""
+                CREATE SCHEMA IF NOT EXISTS %1$s;
+                CREATE OR REPLACE FUNCTION %1$s.pg_is_in_recovery() RETURNS boolean
+                    LANGUAGE sql AS 'SELECT true';
+                CREATE OR REPLACE FUNCTION %1$s.pg_last_wal_receive_lsn() RETURNS pg_lsn
+                    LANGUAGE sql AS 'SELECT ''%2$s''::pg_lsn';
+                CREATE OR REPLACE FUNCTION %1$s.pg_last_wal_replay_lsn() RETURNS pg_lsn
+                    LANGUAGE sql AS 'SELECT ''%2$s''::pg_lsn';
+                CREATE OR REPLACE FUNCTION %1$s.pg_last_xact_replay_timestamp() RETURNS timestamptz
+                    LANGUAGE sql AS 'SELECT now() - interval ''%3$s''';
+                """.formatted(schema, replayLsn, sinceLastReplay));
+
+        return new DriverManagerDataSource(
+                replica.getJdbcUrl("postgres", "postgres") + "&currentSchema=" + schema + ",pg_catalog"
+        );
+    }
+
+    private static DataSource unreachable() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        return new DriverManagerDataSource("jdbc:postgresql://localhost:" + port + "/postgres", "postgres", "");
+    }
+
+    private static void authenticate(UUID userId) {
+        CurrentActor actor = new CurrentActor(userId, userId + "@test.local", UserRole.CAREGIVER, null);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(actor, null, List.of())
+        );
+    }
+
+    private record Routed(DataSource dataSource, ReplicaLagMonitor monitor) {
+
+        JdbcTemplate jdbc() {
+            return new JdbcTemplate(dataSource);
+        }
+
+        int port(boolean readOnly) {
+            TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+            transaction.setReadOnly(readOnly);
+            return transaction.execute(status -> jdbc().queryForObject(PORT, Integer.class));
+        }
+    }
+}
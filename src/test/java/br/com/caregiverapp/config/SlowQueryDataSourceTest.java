@@ -0,0 +1,87 @@
+package br.com.caregiverapp.config;
+
+import br.com.caregiverapp.domain.dto.SlowQueryResponse;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowQueryDataSourceTest {
+
+    private static final String QUERY = "SELECT count(*) FROM pg_class WHERE relname = ? AND relpages >= ?";
+
+    private static EmbeddedPostgres postgres;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        postgres = EmbeddedPostgres.start();
+    }
+
+    @AfterAll
+    static void stopServer() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void recordsStatementsOverTheThresholdWithRedactedValuesAndPlan() throws InterruptedException {
+        SlowQueryRecorder recorder = new SlowQueryRecorder(true, Duration.ZERO, 10, postgres.getPostgresDatabase());
+        JdbcTemplate jdbc = new JdbcTemplate(new SlowQueryDataSource(postgres.getPostgresDatabase(), recorder));
+
+        jdbc.queryForObject(QUERY, Long.class, "pg_proc", 1);
+
+        SlowQueryResponse query = recorder.recent().get(0);
+        assertThat(query.sql()).isEqualTo(QUERY);
+        assertThat(query.parameters()).containsExactly("<String>", "<Integer>");
+        assertThat(query.caller()).isEqualTo(
+                "SlowQueryDataSourceTest.recordsStatementsOverTheThresholdWithRedactedValuesAndPlan"
+        );
+
+        String plan = awaitPlan(recorder);
+        assertThat(plan).doesNotStartWith("EXPLAIN failed").contains("pg_class");
+        recorder.shutdown();
+    }
+
+    @Test
+    void keepsOnlyTheLatestStatements() {
+        SlowQueryRecorder recorder = new SlowQueryRecorder(true, Duration.ZERO, 2, null);
+        JdbcTemplate jdbc = new JdbcTemplate(new SlowQueryDataSource(postgres.getPostgresDatabase(), recorder));
+
+        for (int i = 1; i <= 3; i++) {
+            jdbc.queryForObject("SELECT " + i, Integer.class);
+        }
+
+        assertThat(recorder.recent()).extracting(SlowQueryResponse::sql).containsExactly("SELECT 3", "SELECT 2");
+        assertThat(recorder.recordedCount()).isEqualTo(3);
+        recorder.shutdown();
+    }
+
+    @Test
+    void ignoresStatementsUnderTheThreshold() {
+        SlowQueryRecorder recorder = new SlowQueryRecorder(true, Duration.ofMinutes(1), 10, null);
+        JdbcTemplate jdbc = new JdbcTemplate(new SlowQueryDataSource(postgres.getPostgresDatabase(), recorder));
+
+        jdbc.queryForObject(QUERY, Long.class, "pg_proc", 1);
+
+        assertThat(recorder.recent()).isEmpty();
+        recorder.shutdown();
+    }
+
+    private static String awaitPlan(SlowQueryRecorder recorder) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            List<SlowQueryResponse> recent = recorder.recent();
+            if (recent.get(0).plan() != null) {
+                return recent.get(0).plan();
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("no plan within 10s");
+    }
+}
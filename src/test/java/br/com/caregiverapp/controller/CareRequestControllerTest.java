@@ -0,0 +1,135 @@
+package br.com.caregiverapp.controller;
+
+import br.com.caregiverapp.domain.model.UserRole;
+import br.com.caregiverapp.security.CurrentActor;
+import br.com.caregiverapp.security.JwtService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static br.com.caregiverapp.QueryPlanSeed.seedId;
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_CLASS;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The open listing with the index and the response cache on, as in production.
+ * No seeded request in City 55, 57 or 59 is open, so their listings start empty.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureEmbeddedDatabase(type = POSTGRES, provider = ZONKY)
+@Sql(scripts = "/db/query-plan-seed.sql", executionPhase = BEFORE_TEST_CLASS)
+class CareRequestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Test
+    void aWriteInTheLocationChangesTheTag() throws Exception {
+        String etag = mockMvc.perform(listing("City 55"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        mockMvc.perform(listing("City 55").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // elder-43 posts a request in the listed city
+        mockMvc.perform(as(post("/api/care-requests"), 43, UserRole.ELDER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"description": "Companhia pela manhã", "careDate": "2026-07-01",
+                                 "startTime": "08:00", "endTime": "12:00", "city": "City 55", "state": "SP"}
+                                """))
+                .andExpect(status().isCreated());
+
+        String changed = mockMvc.perform(listing("City 55").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotNull().isNotEqualTo(etag);
+
+        mockMvc.perform(listing("City 55").header(HttpHeaders.IF_NONE_MATCH, changed))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void aWriteElsewhereKeepsTheTag() throws Exception {
+        String etag = mockMvc.perform(listing("City 57"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(as(post("/api/care-requests"), 45, UserRole.ELDER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"description": "Companhia à tarde", "careDate": "2026-07-02",
+                                 "startTime": "14:00", "endTime": "18:00", "city": "City 59", "state": "SP"}
+                                """))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(listing("City 57").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+
+    @Test
+    void gzipOnlyWhenTheClientAcceptsIt() throws Exception {
+        byte[] plain = mockMvc.perform(listing("City 20"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        byte[] compressed = mockMvc.perform(listing("City 20").header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(plain);
+        }
+
+        mockMvc.perform(listing("City 20").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    private MockHttpServletRequestBuilder listing(String city) {
+        return as(get("/api/care-requests"), 8, UserRole.CAREGIVER)
+                .param("city", city)
+                .param("state", "SP");
+    }
+
+    private MockHttpServletRequestBuilder as(MockHttpServletRequestBuilder request, int i, UserRole role) {
+        UUID profileId = role == UserRole.ELDER ? seedId("elder-" + i) : seedId("caregiver-" + i);
+        String token = jwtService.generateToken(
+                new CurrentActor(seedId("user-" + i), "user" + i + "@seed.test", role, profileId)
+        );
+        return request
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .accept(MediaType.APPLICATION_JSON);
+    }
+}
@@ -0,0 +1,271 @@
+package br.com.caregiverapp.controller;
+
+import br.com.caregiverapp.domain.model.UserRole;
+import br.com.caregiverapp.security.CurrentActor;
+import br.com.caregiverapp.security.JwtService;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static br.com.caregiverapp.QueryPlanSeed.seedId;
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_CLASS;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for every endpoint, through the whole stack: security, controller,
+ * mapping and serialization. Caches are off so the counts are for a cold start. A change
+ * that pushes an endpoint past its budget fails here; raise the budget only on purpose.
+ *
+ * <p>The seed is loaded once for the class and nothing is rolled back, so tests that write only
+ * touch rows no other test reads: new emails, and requests and profiles of their own.
+ */
+@SpringBootTest(properties = {
+        "caregiverapp.query-budget.header=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "caregiverapp.care-request-index.enabled=false",
+        "caregiverapp.listing-response-cache.enabled=false",
+        "caregiverapp.security.principal-cache.enabled=false",
+        "caregiverapp.security.login-rate-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+@AutoConfigureEmbeddedDatabase(type = POSTGRES, provider = ZONKY)
+@Import(QueryBudgetExtension.Recording.class)
+@Sql(scripts = "/db/query-plan-seed.sql", executionPhase = BEFORE_TEST_CLASS)
+class ControllerQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    // AuthController
+
+    @Test
+    @QueryBudget(max = 1)
+    void register() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(registration("budget-register@test.local")))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @QueryBudget(max = 2)
+    void login() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(registration("budget-login@test.local")));
+
+        // user, then the profile id for the token
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "budget-login@test.local", "password": "s3cret-Passw0rd"}
+                                """))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(max = 1)
+    void me() throws Exception {
+        mockMvc.perform(as(get("/api/auth/me"), 7, UserRole.ELDER))
+                .andExpect(status().isOk());
+    }
+
+    // CareRequestController
+
+    // same endpoint as searchOpen, which the budget in application.properties has to cover
+    @Test
+    @QueryBudget(max = 3)
+    void listOpen() throws Exception {
+        mockMvc.perform(as(get("/api/care-requests"), 8, UserRole.CAREGIVER)
+                        .param("city", "City 20")
+                        .param("state", "SP"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(max = 3)
+    void searchOpen() throws Exception {
+        // listing version, ranked ids, then the rows for them
+        mockMvc.perform(as(get("/api/care-requests"), 8, UserRole.CAREGIVER)
+                        .param("city", "City 20")
+                        .param("state", "SP")
+                        .param("q", "banho"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(max = 2)
+    void listOpenNearby() throws Exception {
+        // closest ids within the radius, then the rows for them
+        mockMvc.perform(as(get("/api/care-requests/nearby"), 8, UserRole.CAREGIVER)
+                        .param("lat", "-23.55")
+                        .param("lng", "-46.63"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(max = 1)
+    void getById() throws Exception {
+        mockMvc.perform(as(get("/api/care-requests/" + seedId("request-100")), 8, UserRole.CAREGIVER))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(max = 2)
+    void create() throws Exception {
+        // insert, then the listing versions of its location
+        mockMvc.perform(as(post("/api/care-requests"), 41, UserRole.ELDER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"description": "Companhia durante a tarde", "careDate": "2026-06-01",
+                                 "startTime": "14:00", "endTime": "18:00", "city": "City 41", "state": "SP",
+                                 "latitude": -23.55, "longitude": -46.63}
+                                """))
+                .andExpect(status().isCreated());
+    }
+
+    // CareRequestApplicationController
+
+    @Test
+    @QueryBudget(max = 2)
+    void listApplications() throws Exception {
+        // request-60 belongs to elder-121
+        mockMvc.perform(as(get("/api/care-requests/" + seedId("request-60") + "/applications"), 121, UserRole.ELDER))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(max = 4)
+    void apply() throws Exception {
+        // request, duplicate check, caregiver with user, insert; caregiver-10 is read by no other test
+        mockMvc.perform(as(post("/api/care-requests/" + seedId("request-40") + "/apply"), 10, UserRole.CAREGIVER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"message": "Tenho disponibilidade"}
+                                """))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @QueryBudget(max = 4)
+    void accept() throws Exception {
+        // request-80 belongs to elder-161, in a city no listing test reads; request, application, update,
+        // listing versions
+        String uri = "/api/care-requests/" + seedId("request-80")
+                + "/applications/" + seedId("application-80") + "/accept";
+        mockMvc.perform(as(post(uri), 161, UserRole.ELDER))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    // CareRequestQueryController
+
+    @Test
+    @QueryBudget(max = 2)
+    void listApplicants() throws Exception {
+        mockMvc.perform(as(get("/api/care-requests/" + seedId("request-60") + "/applicants"), 121, UserRole.ELDER))
+                .andExpect(status().isOk());
+    }
+
+    // CaregiverProfileController and CaregiverSearchController
+
+    @Test
+    @QueryBudget(max = 1)
+    void caregiverProfile() throws Exception {
+        mockMvc.perform(as(get("/api/caregiver/profile"), 8, UserRole.CAREGIVER))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(max = 1)
+    void caregiverApplications() throws Exception {
+        mockMvc.perform(as(get("/api/caregiver/applications"), 8, UserRole.CAREGIVER))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(max = 2)
+    void caregiversNearby() throws Exception {
+        mockMvc.perform(as(get("/api/caregivers/nearby"), 7, UserRole.ELDER)
+                        .param("lat", "-23.55")
+                        .param("lng", "-46.63"))
+                .andExpect(status().isOk());
+    }
+
+    // ElderProfileController
+
+    @Test
+    @QueryBudget(max = 1)
+    void elderProfile() throws Exception {
+        mockMvc.perform(as(get("/api/elder/profile"), 7, UserRole.ELDER))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(max = 1)
+    void elderCareRequests() throws Exception {
+        mockMvc.perform(as(get("/api/elder/care-requests"), 7, UserRole.ELDER))
+                .andExpect(status().isOk());
+    }
+
+    // AdminUserController
+
+    @Test
+    void bulkRegister() throws Exception {
+        // rows go in through JDBC batches, which the statement counter does not see, so the
+        // outcome is checked instead of a budget; user3 is already in the seed, and the last
+        // email does not fit the column
+        mockMvc.perform(as(post("/api/admin/users/bulk"), 3, UserRole.ADMIN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + registration("budget-bulk-1@test.local") + ","
+                                + registration("budget-bulk-2@test.local") + ","
+                                + registration("user3@seed.test") + ","
+                                + registration("x".repeat(250) + "@test.local") + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[2].status").value("DUPLICATE"))
+                .andExpect(jsonPath("$.results[3].status").value("INVALID"));
+    }
+
+    /**
+     * Authenticates as seed user {@code user-<i>}, with its caregiver or elder profile.
+     */
+    private MockHttpServletRequestBuilder as(MockHttpServletRequestBuilder request, int i, UserRole role) {
+        UUID profileId = switch (role) {
+            case CAREGIVER -> seedId("caregiver-" + i);
+            case ELDER -> seedId("elder-" + i);
+            case ADMIN -> null;
+        };
+        String token = jwtService.generateToken(
+                new CurrentActor(seedId("user-" + i), "user" + i + "@seed.test", role, profileId)
+        );
+        return request
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .accept(MediaType.APPLICATION_JSON);
+    }
+
+    private static String registration(String email) {
+        return """
+                {"firstName": "Budget", "lastName": "Test", "email": "%s",
+                 "password": "s3cret-Passw0rd", "role": "CAREGIVER"}
+                """.formatted(email);
+    }
+}
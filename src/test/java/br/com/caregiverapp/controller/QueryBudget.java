@@ -0,0 +1,21 @@
+package br.com.caregiverapp.controller;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails a MockMvc test when any request it performs runs more than {@link #max()} SQL
+ * statements, as reported in the {@code X-Query-Count} header. The test context needs
+ * {@code caregiverapp.query-budget.header=true} and {@link QueryBudgetExtension.Recording}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    int max();
+}
@@ -0,0 +1,71 @@
+package br.com.caregiverapp.controller;
+
+import br.com.caregiverapp.config.RequestMetricsFilter;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Collects the query count of every MockMvc request made by a {@link QueryBudget} test and
+ * checks it against the budget once the test is done.
+ */
+public class QueryBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ThreadLocal<List<Recorded>> RECORDED = new ThreadLocal<>();
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        RECORDED.set(new ArrayList<>());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        List<Recorded> recorded = RECORDED.get();
+        RECORDED.remove();
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+
+        int max = context.getRequiredTestMethod().getAnnotation(QueryBudget.class).max();
+
+        assertThat(recorded).as("requests performed").isNotEmpty();
+        for (Recorded request : recorded) {
+            assertThat(request.count())
+                    .as("%s header on %s", RequestMetricsFilter.QUERY_COUNT_HEADER, request.request())
+                    .isNotNull();
+            assertThat(Integer.parseInt(request.count()))
+                    .as("statements for %s", request.request())
+                    .isLessThanOrEqualTo(max);
+        }
+    }
+
+    private static void record(MvcResult result) {
+        List<Recorded> recorded = RECORDED.get();
+        if (recorded != null) {
+            recorded.add(new Recorded(
+                    result.getRequest().getMethod() + " " + result.getRequest().getRequestURI(),
+                    result.getResponse().getHeader(RequestMetricsFilter.QUERY_COUNT_HEADER)
+            ));
+        }
+    }
+
+    private record Recorded(String request, String count) {}
+
+    @TestConfiguration(proxyBeanMethods = false)
+    public static class Recording {
+
+        @Bean
+        MockMvcBuilderCustomizer queryBudgetRecorder() {
+            return builder -> builder.alwaysDo(QueryBudgetExtension::record);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.caregiverapp.domain.geo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeoHashTest {
+
+    @Test
+    void encodesTheReferenceHash() {
+        assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHash.cellOf(57.64911, 10.40744)).isEqualTo("u4pru");
+    }
+
+    @Test
+    void cellsCoverEveryPointWithinTheRadius() {
+        assertCovers(-23.55, -46.63, 10);
+        assertCovers(-23.55, -46.63, 50);
+        assertCovers(0.01, -0.01, 5);
+        assertCovers(64.14, -21.94, 25);
+    }
+
+    @Test
+    void cellsWrapAroundTheAntimeridian() {
+        assertCovers(-16.5, 179.98, 20);
+        assertCovers(-16.5, -179.98, 20);
+    }
+
+    @Test
+    void listsEachCellOnce() {
+        List<String> cells = GeoHash.cellsWithin(-23.55, -46.63, 50);
+
+        assertThat(cells).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void refusesAreasNeedingTooManyCells() {
+        assertThatThrownBy(() -> GeoHash.cellsWithin(89.9, 0, 50))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GeoHash.cellsWithin(0, 0, 500))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // points at every 5 degrees of bearing, from the centre out to just inside the radius
+    private static void assertCovers(double latitude, double longitude, double radiusKm) {
+        Set<String> cells = new HashSet<>(GeoHash.cellsWithin(latitude, longitude, radiusKm));
+
+        for (int bearing = 0; bearing < 360; bearing += 5) {
+            for (double fraction : new double[]{0, 0.25, 0.5, 0.75, 0.999}) {
+                double[] point = destination(latitude, longitude, bearing, radiusKm * fraction);
+
+                assertThat(GeoDistance.haversineKm(latitude, longitude, point[0], point[1]))
+                        .isLessThanOrEqualTo(radiusKm);
+                assertThat(cells)
+                        .as("cell of %s,%s at %s degrees", point[0], point[1], bearing)
+                        .contains(GeoHash.cellOf(point[0], point[1]));
+            }
+        }
+    }
+
+    private static double[] destination(double latitude, double longitude, double bearingDegrees, double km) {
+        double angular = km / 6371.0088;
+        double bearing = Math.toRadians(bearingDegrees);
+        double lat1 = Math.toRadians(latitude);
+        double lon1 = Math.toRadians(longitude);
+
+        double lat2 = Math.asin(Math.sin(lat1) * Math.cos(angular)
+                + Math.cos(lat1) * Math.sin(angular) * Math.cos(bearing));
+        double lon2 = lon1 + Math.atan2(Math.sin(bearing) * Math.sin(angular) * Math.cos(lat1),
+                Math.cos(angular) - Math.sin(lat1) * Math.sin(lat2));
+
+        double wrapped = (Math.toDegrees(lon2) + 540) % 360 - 180;
+        return new double[]{Math.toDegrees(lat2), wrapped};
+    }
+}
@@ -0,0 +1,369 @@
+package br.com.caregiverapp.repository;
+
+import br.com.caregiverapp.domain.model.CareRequestStatus;
+import br.com.caregiverapp.security.PrincipalCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static br.com.caregiverapp.QueryPlanSeed.seedId;
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_CLASS;
+
+/**
+ * Runs EXPLAIN for the SQL behind every repository finder against a seeded Postgres
+ * and fails when any of them plans a sequential scan. The second-level cache is off so
+ * every finder reaches the database; findIdByUserId goes through findByUserId.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.caregiverapp.repository.CapturingStatementInspector",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@AutoConfigureEmbeddedDatabase(type = POSTGRES, provider = ZONKY)
+@Import(PrincipalCache.class)
+@Sql(scripts = "/db/query-plan-seed.sql", executionPhase = BEFORE_TEST_CLASS)
+class RepositoryQueryPlanTest {
+
+    private static final String OPEN = CareRequestStatus.OPEN.name();
+    private static final String CITY = "City 20";
+    private static final String STATE = "SP";
+    private static final String SEARCH = "demência";
+    private static final String CELL = "c42";
+    private static final String NEIGHBOUR_CELL = "c43";
+    private static final double LATITUDE = -23.55;
+    private static final double LONGITUDE = -46.63;
+    private static final double RADIUS_KM = 10;
+    private static final SqlParameterValue NO_FILTER = new SqlParameterValue(Types.VARCHAR, null);
+    private static final SqlParameterValue NO_DATE = new SqlParameterValue(Types.DATE, null);
+    private static final SqlParameterValue NO_TIME = new SqlParameterValue(Types.TIME, null);
+
+    private static final UUID USER_ID = seedId("user-8");
+    private static final UUID CAREGIVER_ID = seedId("caregiver-8");
+    private static final UUID ELDER_ID = seedId("elder-7");
+    private static final UUID REQUEST_ID = seedId("request-20");
+
+    private static final LocalDate CARE_DATE = LocalDate.of(2026, 3, 1);
+    private static final OffsetDateTime CREATED_AT = OffsetDateTime.now();
+    private static final LocalTime WINDOW_START = LocalTime.of(13, 0);
+    private static final LocalTime WINDOW_END = LocalTime.of(17, 0);
+
+    @Autowired
+    private CareRequestRepository careRequestRepository;
+
+    @Autowired
+    private CareRequestApplicationRepository applicationRepository;
+
+    @Autowired
+    private CaregiverProfileRepository caregiverProfileRepository;
+
+    @Autowired
+    private ElderProfileRepository elderProfileRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // CareRequestRepository
+
+    @Test
+    void findByCityAndStateAndStatus() {
+        assertNoSeqScan(
+                () -> careRequestRepository.findByCityAndStateAndStatus(CITY, STATE, CareRequestStatus.OPEN),
+                CITY, STATE, OPEN
+        );
+    }
+
+    @Test
+    void findByCityAndStatus() {
+        assertNoSeqScan(
+                () -> careRequestRepository.findByCityAndStatus(CITY, CareRequestStatus.OPEN),
+                CITY, OPEN
+        );
+    }
+
+    @Test
+    void findByStateAndStatus() {
+        assertNoSeqScan(
+                () -> careRequestRepository.findByStateAndStatus(STATE, CareRequestStatus.OPEN),
+                STATE, OPEN
+        );
+    }
+
+    @Test
+    void findByStatus() {
+        assertNoSeqScan(
+                () -> careRequestRepository.findByStatus(CareRequestStatus.OPEN),
+                OPEN
+        );
+    }
+
+    @Test
+    void findByElderProfileId() {
+        assertNoSeqScan(
+                () -> careRequestRepository.findByElderProfileId(ELDER_ID),
+                ELDER_ID
+        );
+    }
+
+    @Test
+    void findFirstPageByLocation() {
+        assertNoSeqScan(
+                () -> careRequestRepository.findFirstPageByLocation(
+                        CareRequestStatus.OPEN, CITY, STATE, null, null, null, null, PageRequest.of(0, 21)),
+                OPEN, CITY, CITY, STATE, STATE, NO_DATE, NO_DATE, NO_DATE, NO_DATE, NO_TIME, NO_TIME, NO_TIME, NO_TIME
+        );
+        assertNoSeqScan(
+                () -> careRequestRepository.findFirstPageByLocation(
+                        CareRequestStatus.OPEN, null, null, null, null, null, null, PageRequest.of(0, 21)),
+                OPEN, NO_FILTER, NO_FILTER, NO_FILTER, NO_FILTER,
+                NO_DATE, NO_DATE, NO_DATE, NO_DATE, NO_TIME, NO_TIME, NO_TIME, NO_TIME
+        );
+    }
+
+    @Test
+    void findFirstPageByLocationInScheduleWindow() {
+        assertNoSeqScan(
+                () -> careRequestRepository.findFirstPageByLocation(
+                        CareRequestStatus.OPEN, CITY, STATE,
+                        CARE_DATE, CARE_DATE.plusDays(7), WINDOW_START, WINDOW_END, PageRequest.of(0, 21)),
+                OPEN, CITY, CITY, STATE, STATE,
+                CARE_DATE, CARE_DATE, CARE_DATE.plusDays(7), CARE_DATE.plusDays(7),
+                WINDOW_START, WINDOW_START, WINDOW_END, WINDOW_END
+        );
+        assertNoSeqScan(
+                () -> careRequestRepository.findFirstPageByLocation(
+                        CareRequestStatus.OPEN, null, null,
+                        CARE_DATE, CARE_DATE.plusDays(7), WINDOW_START, WINDOW_END, PageRequest.of(0, 21)),
+                OPEN, NO_FILTER, NO_FILTER, NO_FILTER, NO_FILTER,
+                CARE_DATE, CARE_DATE, CARE_DATE.plusDays(7), CARE_DATE.plusDays(7),
+                WINDOW_START, WINDOW_START, WINDOW_END, WINDOW_END
+        );
+    }
+
+    @Test
+    void findPageByLocationAfter() {
+        assertNoSeqScan(
+                () -> careRequestRepository.findPageByLocationAfter(
+                        CareRequestStatus.OPEN, CITY, STATE, null, null, null, null,
+                        CARE_DATE, CREATED_AT, REQUEST_ID, PageRequest.of(0, 21)),
+                OPEN, CITY, CITY, STATE, STATE, NO_DATE, NO_DATE, NO_DATE, NO_DATE, NO_TIME, NO_TIME, NO_TIME, NO_TIME,
+                CARE_DATE, CREATED_AT, REQUEST_ID
+        );
+    }
+
+    @Test
+    void findFirstPageByElderProfileId() {
+        assertNoSeqScan(
+                () -> careRequestRepository.findFirstPageByElderProfileId(ELDER_ID, PageRequest.of(0, 21)),
+                ELDER_ID
+        );
+    }
+
+    @Test
+    void findPageByElderProfileIdAfter() {
+        assertNoSeqScan(
+                () -> careRequestRepository.findPageByElderProfileIdAfter(
+                        ELDER_ID, CARE_DATE, CREATED_AT, REQUEST_ID, PageRequest.of(0, 21)),
+                ELDER_ID, CARE_DATE, CREATED_AT, REQUEST_ID
+        );
+    }
+
+    @Test
+    void findOpenNearby() {
+        assertNoSeqScan(
+                () -> careRequestRepository.findOpenNearby(
+                        List.of(CELL, NEIGHBOUR_CELL), LATITUDE, LONGITUDE, RADIUS_KM, PageRequest.of(0, 20)),
+                nearbyParams()
+        );
+    }
+
+    @Test
+    void searchOpen() {
+        assertNoSeqScan(
+                () -> careRequestRepository.searchOpen(
+                        SEARCH, CITY, STATE, null, null, null, null, PageRequest.of(0, 21)),
+                SEARCH, CITY, CITY, STATE, STATE, NO_DATE, NO_DATE, NO_DATE, NO_DATE, NO_TIME, NO_TIME, NO_TIME, NO_TIME
+        );
+        assertNoSeqScan(
+                () -> careRequestRepository.searchOpen(
+                        SEARCH, null, null, null, null, null, null, PageRequest.of(0, 21)),
+                SEARCH, NO_FILTER, NO_FILTER, NO_FILTER, NO_FILTER,
+                NO_DATE, NO_DATE, NO_DATE, NO_DATE, NO_TIME, NO_TIME, NO_TIME, NO_TIME
+        );
+    }
+
+    @Test
+    void searchOpenAfter() {
+        assertNoSeqScan(
+                () -> careRequestRepository.searchOpenAfter(
+                        SEARCH, CITY, STATE, null, null, null, null, 0.06f, REQUEST_ID, PageRequest.of(0, 21)),
+                SEARCH, CITY, CITY, STATE, STATE, NO_DATE, NO_DATE, NO_DATE, NO_DATE, NO_TIME, NO_TIME, NO_TIME, NO_TIME,
+                0.06f, 0.06f, REQUEST_ID
+        );
+    }
+
+    @Test
+    void findRowsByIdIn() {
+        UUID other = seedId("request-40");
+
+        assertNoSeqScan(
+                () -> careRequestRepository.findRowsByIdIn(List.of(REQUEST_ID, other)),
+                REQUEST_ID, other
+        );
+    }
+
+    // CareRequestApplicationRepository
+
+    @Test
+    void existsByCareRequestIdAndCaregiverProfileId() {
+        assertNoSeqScan(
+                () -> applicationRepository.existsByCareRequestIdAndCaregiverProfileId(REQUEST_ID, CAREGIVER_ID),
+                REQUEST_ID, CAREGIVER_ID
+        );
+    }
+
+    @Test
+    void findApplicationsByCareRequestId() {
+        assertNoSeqScan(
+                () -> applicationRepository.findApplicationsByCareRequestId(REQUEST_ID),
+                REQUEST_ID
+        );
+    }
+
+    @Test
+    void findApplicationsByCaregiverProfileId() {
+        assertNoSeqScan(
+                () -> applicationRepository.findApplicationsByCaregiverProfileId(CAREGIVER_ID),
+                CAREGIVER_ID
+        );
+    }
+
+    @Test
+    void findApplicantsByCareRequestId() {
+        assertNoSeqScan(
+                () -> applicationRepository.findApplicantsByCareRequestId(REQUEST_ID),
+                REQUEST_ID
+        );
+    }
+
+    // Profile and user repositories
+
+    @Test
+    void caregiverProfileByUserId() {
+        assertNoSeqScan(() -> caregiverProfileRepository.findByUserId(USER_ID), USER_ID);
+        assertNoSeqScan(() -> caregiverProfileRepository.existsByUserId(USER_ID), USER_ID);
+    }
+
+    @Test
+    void caregiverProfileWithUser() {
+        assertNoSeqScan(() -> caregiverProfileRepository.findWithUserById(CAREGIVER_ID), CAREGIVER_ID);
+    }
+
+    @Test
+    void caregiverProfilesNearby() {
+        assertNoSeqScan(
+                () -> caregiverProfileRepository.findNearby(
+                        List.of(CELL, NEIGHBOUR_CELL), LATITUDE, LONGITUDE, RADIUS_KM, PageRequest.of(0, 20)),
+                nearbyParams()
+        );
+    }
+
+    @Test
+    void elderProfileByUserId() {
+        UUID elderUserId = seedId("user-7");
+
+        assertNoSeqScan(() -> elderProfileRepository.findByUserId(elderUserId), elderUserId);
+        assertNoSeqScan(() -> elderProfileRepository.existsByUserId(elderUserId), elderUserId);
+    }
+
+    @Test
+    void userByEmail() {
+        String email = "user8@seed.test";
+
+        assertNoSeqScan(() -> userRepository.findByEmail(email), email);
+        assertNoSeqScan(() -> userRepository.existsByEmail(email), email);
+    }
+
+    /**
+     * Calls the finder to capture the SQL Hibernate generates for it, then explains that SQL
+     * with {@code params} bound in the order they appear. Pagination is inlined as literals.
+     */
+    private void assertNoSeqScan(Runnable finder, Object... params) {
+        CapturingStatementInspector.clear();
+        finder.run();
+
+        List<String> statements = CapturingStatementInspector.statements();
+        assertThat(statements).as("statements issued by the finder").isNotEmpty();
+
+        String sql = inlinePagination(statements.get(0));
+        assertThat(sql.chars().filter(c -> c == '?').count())
+                .as("bind parameters in %s", sql)
+                .isEqualTo(params.length);
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class, params);
+
+        assertThat(seqScans(plan))
+                .as("sequential scans in plan for %s%n%s", sql, plan)
+                .isEmpty();
+    }
+
+    // distance in the select list, then the cells, the latitude band and the radius
+    private static Object[] nearbyParams() {
+        return new Object[]{
+                LATITUDE, LATITUDE, LONGITUDE,
+                CELL, NEIGHBOUR_CELL,
+                LATITUDE, RADIUS_KM, LATITUDE, RADIUS_KM,
+                RADIUS_KM
+        };
+    }
+
+    private List<String> seqScans(String plan) {
+        try {
+            List<String> relations = new ArrayList<>();
+            collectSeqScans(objectMapper.readTree(plan).get(0).get("Plan"), relations);
+            return relations;
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not read plan: " + plan, e);
+        }
+    }
+
+    private void collectSeqScans(JsonNode node, List<String> relations) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            relations.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, relations);
+        }
+    }
+
+    private static String inlinePagination(String sql) {
+        return sql
+                .replaceAll("(?i)offset \\? rows", "offset 0 rows")
+                .replaceAll("(?i)fetch first \\? rows only", "fetch first 21 rows only")
+                .replaceAll("(?i)limit \\?", "limit 21")
+                .replaceAll("(?i)offset \\?", "offset 0");
+    }
+}
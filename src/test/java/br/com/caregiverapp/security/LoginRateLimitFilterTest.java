@@ -0,0 +1,81 @@
+package br.com.caregiverapp.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginRateLimitFilterTest {
+
+    private final LoginRateLimitFilter filter = new LoginRateLimitFilter(
+            new ObjectMapper().findAndRegisterModules(),
+            true,
+            10, Duration.ofMinutes(1),
+            2, Duration.ofMinutes(1),
+            1000
+    );
+
+    @Test
+    void passesTheBodyOnAndLimitsPerAccount() throws Exception {
+        String body = "{\"email\":\"Someone@Example.com\",\"password\":\"secret\"}";
+
+        MockFilterChain chain = new MockFilterChain();
+        assertThat(login("10.0.0.1", body, chain).getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest().getInputStream().readAllBytes())
+                .isEqualTo(body.getBytes(StandardCharsets.UTF_8));
+
+        // same account from another address, with the email in another case
+        login("10.0.0.2", body.replace("Someone", "someone"), new MockFilterChain());
+        MockHttpServletResponse throttled = login("10.0.0.3", body, new MockFilterChain());
+
+        assertThat(throttled.getStatus()).isEqualTo(429);
+        assertThat(throttled.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+        assertThat(filter.getRejectedByAccount()).isEqualTo(1);
+    }
+
+    @Test
+    void limitsPerAddressWhateverTheAccount() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            login("10.0.0.1", "{\"email\":\"user" + i + "@example.com\"}", new MockFilterChain());
+        }
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = login("10.0.0.1", "{\"email\":\"fresh@example.com\"}", chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(filter.getRejectedByIp()).isEqualTo(1);
+    }
+
+    @Test
+    void refusesOversizedBodies() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = login(
+                "10.0.0.1",
+                "{\"email\":\"" + "a".repeat(5000) + "@example.com\"}",
+                chain
+        );
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    private MockHttpServletResponse login(String address, String body, MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setServletPath("/api/auth/login");
+        request.setRemoteAddr(address);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
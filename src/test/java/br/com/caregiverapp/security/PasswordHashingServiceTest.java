@@ -0,0 +1,106 @@
+package br.com.caregiverapp.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHashingServiceTest {
+
+    private final GatedEncoder encoder = new GatedEncoder();
+    private PasswordHashingService service;
+
+    @AfterEach
+    void shutdown() {
+        encoder.open();
+        service.shutdown();
+    }
+
+    @Test
+    void loginsFindAFreeWorkerWhileBatchesRun() throws Exception {
+        service = new PasswordHashingService(encoder, 4, 100, Duration.ofSeconds(5), 0);
+
+        CompletableFuture<List<String>> first = CompletableFuture.supplyAsync(
+                () -> service.encodeAll(List.of("bulk-1", "bulk-2", "bulk-3"))
+        );
+        CompletableFuture<List<String>> second = CompletableFuture.supplyAsync(
+                () -> service.encodeAll(List.of("bulk-4", "bulk-5", "bulk-6"))
+        );
+        encoder.awaitBlocked(2);
+
+        // both batches are stuck on the gate, yet a login is answered right away
+        assertThat(service.matches("login", "hash:login")).isTrue();
+
+        encoder.open();
+        assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly("hash:bulk-1", "hash:bulk-2", "hash:bulk-3");
+        assertThat(second.get(5, TimeUnit.SECONDS)).containsExactly("hash:bulk-4", "hash:bulk-5", "hash:bulk-6");
+        assertThat(encoder.maxConcurrentBulk).hasValue(2);
+    }
+
+    @Test
+    void batchesNeverHoldTheWholePool() throws Exception {
+        service = new PasswordHashingService(encoder, 2, 100, Duration.ofSeconds(5), 8);
+
+        CompletableFuture<List<String>> batch = CompletableFuture.supplyAsync(
+                () -> service.encodeAll(List.of("bulk-1", "bulk-2", "bulk-3"))
+        );
+        encoder.awaitBlocked(1);
+
+        assertThat(service.matches("login", "hash:login")).isTrue();
+
+        encoder.open();
+        assertThat(batch.get(5, TimeUnit.SECONDS)).hasSize(3);
+        assertThat(encoder.maxConcurrentBulk).hasValue(1);
+    }
+
+    // bulk passwords wait on a gate so the test controls how long a batch holds its workers
+    private static final class GatedEncoder implements PasswordEncoder {
+
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final AtomicInteger concurrentBulk = new AtomicInteger();
+        private final AtomicInteger maxConcurrentBulk = new AtomicInteger();
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (!rawPassword.toString().startsWith("bulk-")) {
+                return "hash:" + rawPassword;
+            }
+            maxConcurrentBulk.accumulateAndGet(concurrentBulk.incrementAndGet(), Math::max);
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrentBulk.decrementAndGet();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return ("hash:" + rawPassword).equals(encodedPassword);
+        }
+
+        void open() {
+            gate.countDown();
+        }
+
+        void awaitBlocked(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (concurrentBulk.get() < count) {
+                if (System.nanoTime() > deadline) {
+                    throw new AssertionError("batches did not start");
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.caregiverapp.security;
+
+import br.com.caregiverapp.domain.model.User;
+import br.com.caregiverapp.domain.model.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrincipalCacheTest {
+
+    private static final String EMAIL = "cached@caregiverapp.com.br";
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private User user = new User("Cached User", EMAIL, "hash-1", UserRole.CAREGIVER);
+
+    private final Function<String, Optional<User>> loader = email -> {
+        loads.incrementAndGet();
+        return Optional.of(user);
+    };
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void servesRepeatedLookupsFromACopy() {
+        PrincipalCache cache = new PrincipalCache(true, 100, Duration.ofMinutes(5));
+
+        UserPrincipal first = cache.get(EMAIL, loader).orElseThrow();
+        user.setPasswordHash("changed in a persistence context");
+        UserPrincipal second = cache.get(EMAIL, loader).orElseThrow();
+
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(second.passwordHash()).isEqualTo("hash-1");
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void dropsTheEntryOnlyOnceTheChangeCommits() {
+        PrincipalCache cache = new PrincipalCache(true, 100, Duration.ofMinutes(5));
+        UserCacheInvalidationListener listener = new UserCacheInvalidationListener(cache);
+        cache.get(EMAIL, loader);
+
+        TransactionSynchronizationManager.initSynchronization();
+        user = new User("Cached User", EMAIL, "hash-2", UserRole.CAREGIVER);
+        listener.onUserChanged(user);
+
+        assertThat(cache.get(EMAIL, loader).orElseThrow().passwordHash()).isEqualTo("hash-1");
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+
+        assertThat(cache.get(EMAIL, loader).orElseThrow().passwordHash()).isEqualTo("hash-2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void keepsTheEntryWhenTheChangeRollsBack() {
+        PrincipalCache cache = new PrincipalCache(true, 100, Duration.ofMinutes(5));
+        UserCacheInvalidationListener listener = new UserCacheInvalidationListener(cache);
+        cache.get(EMAIL, loader);
+
+        TransactionSynchronizationManager.initSynchronization();
+        listener.onUserChanged(user);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        cache.get(EMAIL, loader);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void reloadsExpiredEntries() {
+        PrincipalCache cache = new PrincipalCache(true, 100, Duration.ZERO);
+
+        cache.get(EMAIL, loader);
+        cache.get(EMAIL, loader);
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.hitCount()).isZero();
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.caregiverapp.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    @Test
+    void allowsTheBurstThenReportsTheWait() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, Duration.ofMinutes(1), 100);
+
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isZero();
+
+        // one token every 20s, the first of which was spent a moment ago
+        assertThat(limiter.tryAcquire("key"))
+                .isPositive()
+                .isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(20));
+        assertThat(limiter.tryAcquire("other")).isZero();
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, Duration.ofMillis(400), 100);
+        limiter.tryAcquire("key");
+        limiter.tryAcquire("key");
+
+        long wait = limiter.tryAcquire("key");
+        assertThat(wait).isPositive();
+
+        TimeUnit.NANOSECONDS.sleep(wait + TimeUnit.MILLISECONDS.toNanos(20));
+
+        // only the one token: the bucket does not jump back to full
+        assertThat(limiter.tryAcquire("key")).isZero();
+        assertThat(limiter.tryAcquire("key")).isPositive();
+    }
+
+    @Test
+    void concurrentCallersNeverShareAToken() throws Exception {
+        int capacity = 50;
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(capacity, Duration.ofHours(1), 100);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 8; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int attempt = 0; attempt < 100; attempt++) {
+                        if (limiter.tryAcquire("key") == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(allowed).hasValue(capacity);
+    }
+
+    @Test
+    void sweepsRefilledBucketsFirst() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, Duration.ofMillis(50), 10);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("key-" + i);
+        }
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(limiter.tryAcquire("new")).isZero();
+
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void staysBoundedWhenEveryTrackedKeyIsThrottled() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, Duration.ofHours(1), 100);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(limiter.tryAcquire("spray-" + i)).isZero();
+            assertThat(limiter.size()).isLessThanOrEqualTo(100);
+        }
+
+        // a recently throttled key is kept, so it gets no fresh burst
+        assertThat(limiter.tryAcquire("spray-9999")).isPositive();
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.caregiverapp.service;
+
+import br.com.caregiverapp.domain.dto.CursorPage;
+import br.com.caregiverapp.domain.event.CareRequestAssignedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CareRequestResponseCacheTest {
+
+    private static final String TAG = CareRequestChangeTracker.versionTag(7);
+
+    private final CareRequestResponseCache cache = new CareRequestResponseCache(
+            new ObjectMapper(), true, 100, DataSize.ofMegabytes(1)
+    );
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void servesTheCachedPageWithoutLoadingIt() {
+        CareRequestResponseCache.Entry first = cache.get(key("Campinas", "SP", null), page("first"));
+        CareRequestResponseCache.Entry second = cache.get(key("Campinas", "SP", null), page("second"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(second.json())).contains("first");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void aWriteDropsThePagesThatCanShowIt() {
+        cache.get(key("Campinas", "SP", null), page("campinas"));
+        cache.get(key("Campinas", "SP", "cursor"), page("campinas, next page"));
+        cache.get(key(null, "SP", null), page("state"));
+        cache.get(key(null, null, null), page("everywhere"));
+        cache.get(key("Santos", "SP", null), page("santos"));
+        cache.get(key(null, "MG", null), page("other state"));
+
+        cache.onAssigned(new CareRequestAssignedEvent(UUID.randomUUID(), "Campinas", "SP"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.invalidationCount()).isEqualTo(4);
+
+        CareRequestResponseCache.Entry reloaded = cache.get(key("Campinas", "SP", null), page("after the write"));
+        assertThat(new String(reloaded.json())).contains("after the write");
+        cache.get(key("Santos", "SP", null), page("santos again"));
+        assertThat(loads).hasValue(7);
+    }
+
+    @Test
+    void theGzipVariantHoldsTheSameJson() throws IOException {
+        CareRequestResponseCache.Entry entry = cache.get(key("Campinas", "SP", null), page("compressed"));
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(entry.gzip()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(entry.json());
+        }
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedPastTheSizeLimit() {
+        CareRequestResponseCache small = new CareRequestResponseCache(new ObjectMapper(), true, 2, DataSize.ofMegabytes(1));
+        small.get(key("A", "SP", null), page("a"));
+        small.get(key("B", "SP", null), page("b"));
+        small.get(key("A", "SP", null), page("a again"));
+        small.get(key("C", "SP", null), page("c"));
+
+        assertThat(small.size()).isEqualTo(2);
+        assertThat(small.evictionCount()).isEqualTo(1);
+        assertThat(new String(small.get(key("A", "SP", null), page("a reloaded")).json())).contains("\"a\"");
+    }
+
+    private static CareRequestResponseCache.Key key(String city, String state, String cursor) {
+        return CareRequestResponseCache.key(TAG, city, state, cursor, null);
+    }
+
+    private Supplier<CursorPage<String>> page(String item) {
+        return () -> {
+            loads.incrementAndGet();
+            return new CursorPage<>(List.of(item), null);
+        };
+    }
+}
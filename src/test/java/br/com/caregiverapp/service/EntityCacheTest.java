@@ -0,0 +1,164 @@
+package br.com.caregiverapp.service;
+
+import br.com.caregiverapp.config.EntityCacheConfig;
+import br.com.caregiverapp.domain.dto.UpdateCaregiverProfileRequest;
+import br.com.caregiverapp.domain.dto.UpdateElderProfileRequest;
+import br.com.caregiverapp.domain.model.CaregiverProfile;
+import br.com.caregiverapp.domain.model.ElderProfile;
+import br.com.caregiverapp.domain.model.User;
+import br.com.caregiverapp.domain.model.UserRole;
+import br.com.caregiverapp.repository.CaregiverProfileRepository;
+import br.com.caregiverapp.repository.ElderProfileRepository;
+import br.com.caregiverapp.repository.UserRepository;
+import br.com.caregiverapp.security.AuthenticatedUserService;
+import br.com.caregiverapp.security.CurrentActor;
+import br.com.caregiverapp.security.PrincipalCache;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Second-level and natural-id caching of users and profiles. Not transactional: each service
+ * call commits on its own, as it does behind a request, so the cache sees real commits.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureEmbeddedDatabase(type = POSTGRES, provider = ZONKY)
+@Import({
+        EntityCacheConfig.class,
+        CaregiverProfileService.class,
+        ElderProfileService.class,
+        AuthenticatedUserService.class,
+        PrincipalCache.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EntityCacheTest {
+
+    @Autowired
+    private CaregiverProfileService caregiverProfileService;
+
+    @Autowired
+    private ElderProfileService elderProfileService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CaregiverProfileRepository caregiverProfileRepository;
+
+    @Autowired
+    private ElderProfileRepository elderProfileRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void caregiverProfileUpdateIsVisibleImmediately() {
+        User user = saveUser(UserRole.CAREGIVER);
+        CaregiverProfile profile = caregiverProfileRepository.save(new CaregiverProfile(
+                user, "Before", 3, BigDecimal.TEN, LocalTime.of(8, 0), LocalTime.of(17, 0),
+                "Campinas", "SP", List.of("cooking")
+        ));
+        authenticate(user, profile.getId());
+
+        caregiverProfileService.getProfile();
+        statistics.clear();
+        assertThat(caregiverProfileService.getProfile().getBio()).isEqualTo("Before");
+        assertThat(statistics.getSecondLevelCacheHitCount()).as("second-level cache hits").isPositive();
+
+        caregiverProfileService.updateProfile(new UpdateCaregiverProfileRequest(
+                "After", 4, BigDecimal.ONE, LocalTime.of(9, 0), LocalTime.of(18, 0),
+                "Santos", "SP", List.of("driving"), null, null
+        ));
+
+        assertThat(caregiverProfileService.getProfile().getBio()).isEqualTo("After");
+        assertThat(caregiverProfileRepository.findByUserId(user.getId()))
+                .map(CaregiverProfile::getCity)
+                .hasValue("Santos");
+    }
+
+    @Test
+    void elderProfileUpdateIsVisibleImmediately() {
+        User user = saveUser(UserRole.ELDER);
+        ElderProfile profile = new ElderProfile(user, null, null, null, null, "Campinas", "SP");
+        profile.setPhone("11911112222");
+        profile.setAddress("Rua A, 1");
+        profile = elderProfileRepository.save(profile);
+        authenticate(user, profile.getId());
+
+        elderProfileService.getProfile();
+        statistics.clear();
+        assertThat(elderProfileService.getProfile().getPhone()).isEqualTo("11911112222");
+        assertThat(statistics.getSecondLevelCacheHitCount()).as("second-level cache hits").isPositive();
+
+        elderProfileService.update(new UpdateElderProfileRequest(
+                "11933334444", null, null, null, "Santos", null, null, null
+        ));
+
+        assertThat(elderProfileService.getProfile().getPhone()).isEqualTo("11933334444");
+        assertThat(elderProfileRepository.findByUserId(user.getId()))
+                .map(ElderProfile::getCity)
+                .hasValue("Santos");
+    }
+
+    @Test
+    void naturalIdLookupsAreServedFromCache() {
+        User user = saveUser(UserRole.CAREGIVER);
+        CaregiverProfile profile = caregiverProfileRepository.save(new CaregiverProfile(
+                user, null, null, null, null, null, "Campinas", "SP", null
+        ));
+
+        userRepository.findByEmail(user.getEmail());
+        caregiverProfileRepository.findIdByUserId(user.getId());
+        statistics.clear();
+
+        assertThat(userRepository.findByEmail(user.getEmail())).map(User::getId).hasValue(user.getId());
+        assertThat(caregiverProfileRepository.findIdByUserId(user.getId())).hasValue(profile.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).as("statements").isZero();
+        assertThat(statistics.getNaturalIdCacheHitCount()).as("natural-id cache hits").isEqualTo(2);
+    }
+
+    private User saveUser(UserRole role) {
+        String email = "cache-" + UUID.randomUUID() + "@test.local";
+        return userRepository.save(new User("Cache Test", email, "not-a-hash", role));
+    }
+
+    private static void authenticate(User user, UUID profileId) {
+        CurrentActor actor = new CurrentActor(user.getId(), user.getEmail(), user.getRole(), profileId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(actor, null, List.of())
+        );
+    }
+}
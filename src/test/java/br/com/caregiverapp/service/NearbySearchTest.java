@@ -0,0 +1,78 @@
+package br.com.caregiverapp.service;
+
+import br.com.caregiverapp.domain.dto.NearbyResult;
+import br.com.caregiverapp.domain.geo.GeoHash;
+import br.com.caregiverapp.domain.geo.GeoPoint;
+import br.com.caregiverapp.repository.NearbyHit;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NearbySearchTest {
+
+    private static final GeoPoint SAO_PAULO = new GeoPoint(-23.55, -46.63);
+
+    @Test
+    void searchesTheCellsAroundTheCentre() {
+        List<String> cells = NearbySearch.cells(SAO_PAULO, NearbySearch.DEFAULT_RADIUS_KM);
+
+        assertThat(cells)
+                .contains(SAO_PAULO.cell())
+                .containsExactlyElementsOf(GeoHash.cellsWithin(-23.55, -46.63, NearbySearch.DEFAULT_RADIUS_KM));
+    }
+
+    @Test
+    void anAreaTooLargeIsABadRequest() {
+        assertThatThrownBy(() -> NearbySearch.cells(new GeoPoint(89.9, 0), NearbySearch.MAX_RADIUS_KM))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void radiusDefaultsAndIsBounded() {
+        assertThat(NearbySearch.radiusKm(null)).isEqualTo(NearbySearch.DEFAULT_RADIUS_KM);
+        assertThat(NearbySearch.radiusKm(NearbySearch.MAX_RADIUS_KM)).isEqualTo(NearbySearch.MAX_RADIUS_KM);
+
+        assertThatThrownBy(() -> NearbySearch.radiusKm(0.0)).isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> NearbySearch.radiusKm(NearbySearch.MAX_RADIUS_KM + 1))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void resultsKeepTheOrderAndDistanceOfTheHits() {
+        UUID near = UUID.randomUUID();
+        UUID far = UUID.randomUUID();
+        UUID gone = UUID.randomUUID();
+
+        // rows come back from the id lookup in no particular order
+        List<NearbyResult<String>> results = NearbySearch.results(
+                List.of(hit(near, 0.4), hit(gone, 1.2), hit(far, 7.5)),
+                List.of(far, near),
+                id -> id,
+                UUID::toString
+        );
+
+        assertThat(results).containsExactly(
+                new NearbyResult<>(near.toString(), 0.4),
+                new NearbyResult<>(far.toString(), 7.5)
+        );
+    }
+
+    private static NearbyHit hit(UUID id, double distanceKm) {
+        return new NearbyHit() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public double getDistanceKm() {
+                return distanceKm;
+            }
+        };
+    }
+}
@@ -0,0 +1,281 @@
+package br.com.caregiverapp.service;
+
+import br.com.caregiverapp.domain.dto.CareRequestResponse;
+import br.com.caregiverapp.domain.dto.CareRequestRow;
+import br.com.caregiverapp.domain.dto.CareScheduleFilter;
+import br.com.caregiverapp.domain.dto.CursorPage;
+import br.com.caregiverapp.domain.event.CareRequestAssignedEvent;
+import br.com.caregiverapp.domain.event.CareRequestCreatedEvent;
+import br.com.caregiverapp.domain.model.CareRequest;
+import br.com.caregiverapp.domain.model.CareRequestStatus;
+import br.com.caregiverapp.domain.model.ElderProfile;
+import br.com.caregiverapp.repository.CareRequestRepository;
+import br.com.caregiverapp.service.CareRequestChangeTracker.ListingVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The index against a list standing in for {@code care_requests}: a write is a change to that
+ * list followed by the event its transaction publishes after commit.
+ */
+class OpenCareRequestIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 6, 20);
+    private static final OffsetDateTime CREATED = OffsetDateTime.of(2026, 5, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    private final List<CareRequestRow> database = new CopyOnWriteArrayList<>();
+    private final CareRequestRepository repository = mock(CareRequestRepository.class);
+    private final CareRequestChangeTracker changeTracker = mock(CareRequestChangeTracker.class);
+    private final OpenCareRequestIndex index = new OpenCareRequestIndex(repository, changeTracker, true);
+
+    // the all-locations counter, bumped by every write as the tracker does in its transaction
+    private long writes;
+
+    @BeforeEach
+    void loadFromTheList() {
+        when(repository.findByStatus(CareRequestStatus.OPEN)).thenAnswer(call -> openRows());
+        when(changeTracker.version(null, null)).thenAnswer(call -> new ListingVersion(writes, writes));
+    }
+
+    @Test
+    void writesDuringARebuildAreReplayedOntoTheNewSnapshot() throws Exception {
+        CareRequestRow kept = row(1, "Campinas", "SP", DAY, 0);
+        CareRequestRow accepted = row(2, "Campinas", "SP", DAY, 1);
+        database.addAll(List.of(kept, accepted));
+        index.rebuild();
+
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.findByStatus(CareRequestStatus.OPEN)).thenAnswer(call -> {
+            List<CareRequestRow> rows = openRows();
+            loaded.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return rows;
+        });
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(index::rebuild);
+        assertThat(loaded.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // both commit after the rebuild has read the table
+        create(row(3, "Campinas", "SP", DAY.plusDays(1), 0));
+        accept(accepted);
+
+        release.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+
+        assertThat(indexed(null, null)).containsExactlyElementsOf(openIds(null, null));
+        assertThat(indexed(null, null)).doesNotContain(accepted.id());
+        assertThat(index.isCurrent(latest())).isTrue();
+    }
+
+    @Test
+    void eventsForWritesTheRebuildAlreadyReadAreHarmless() throws Exception {
+        CareRequestRow accepted = row(1, "Campinas", "SP", DAY, 0);
+        database.add(accepted);
+        index.rebuild();
+
+        // committed before the rebuild reads the table; the events arrive while it runs
+        CareRequestRow created = row(2, "Santos", "SP", DAY, 0);
+        database.add(created);
+        database.replaceAll(row -> row.id().equals(accepted.id()) ? assigned(row) : row);
+        writes += 2;
+
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.findByStatus(CareRequestStatus.OPEN)).thenAnswer(call -> {
+            List<CareRequestRow> rows = openRows();
+            loaded.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return rows;
+        });
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(index::rebuild);
+        assertThat(loaded.await(5, TimeUnit.SECONDS)).isTrue();
+
+        index.onCreated(new CareRequestCreatedEvent(entity(created)));
+        index.onAssigned(new CareRequestAssignedEvent(accepted.id(), accepted.city(), accepted.state()));
+
+        release.countDown();
+        rebuild.get(5, TimeUnit.SECONDS);
+
+        assertThat(indexed(null, null)).containsExactly(created.id());
+        assertThat(index.size()).isEqualTo(1);
+        // counted twice, by the rebuild and by the replay: reads go to the database until the next one
+        assertThat(index.isCurrent(latest())).isFalse();
+    }
+
+    @Test
+    void isCurrentOnlyWhileItHoldsEveryCountedWrite() {
+        database.add(row(1, "Campinas", "SP", DAY, 0));
+        index.rebuild();
+        assertThat(index.isCurrent(latest())).isTrue();
+
+        create(row(2, "Campinas", "SP", DAY, 1));
+        assertThat(index.isCurrent(latest())).isTrue();
+
+        // committed by another instance: counted, but no event reaches this one
+        database.add(row(3, "Santos", "SP", DAY, 0));
+        writes++;
+        assertThat(index.isCurrent(latest())).isFalse();
+
+        index.rebuild();
+        assertThat(index.isCurrent(latest())).isTrue();
+        assertThat(indexed(null, null)).containsExactlyElementsOf(openIds(null, null));
+    }
+
+    @Test
+    void partitionsFollowTheDatabaseOrder() {
+        // same day and creation time: ties break on the id as unsigned bytes, as uuid does in SQL
+        UUID low = new UUID(0x1000_0000_0000_0000L, 0);
+        UUID high = new UUID(0x9000_0000_0000_0000L, 0);
+        database.addAll(List.of(
+                row(high, "Campinas", "SP", DAY, 0),
+                row(low, "Campinas", "SP", DAY, 0),
+                row(UUID.randomUUID(), "Campinas", "SP", DAY, -1),
+                row(UUID.randomUUID(), "Santos", "SP", DAY.minusDays(1), 0),
+                row(UUID.randomUUID(), "Campinas", "MG", DAY.plusDays(1), 0)
+        ));
+        index.rebuild();
+
+        assertThat(indexed(null, null)).containsExactlyElementsOf(openIds(null, null));
+        assertThat(indexed(null, "SP")).containsExactlyElementsOf(openIds(null, "SP"));
+        assertThat(indexed("Campinas", null)).containsExactlyElementsOf(openIds("Campinas", null));
+        assertThat(indexed("Campinas", "SP")).containsExactlyElementsOf(openIds("Campinas", "SP"));
+        assertThat(indexed("Campinas", "SP")).endsWith(low, high);
+    }
+
+    @Test
+    void verifyCountsPagesThatDifferFromTheDatabase() {
+        database.add(row(1, "Campinas", "SP", DAY, 0));
+        index.rebuild();
+
+        CursorPage<CareRequestResponse> fromIndex = index.findOpen(null, null, CareScheduleFilter.NONE, null, 50);
+        index.verify(fromIndex, databasePage(), null, null);
+        assertThat(index.mismatchCount()).isZero();
+
+        // written where this instance never heard of it
+        database.add(row(2, "Campinas", "SP", DAY.minusDays(1), 0));
+        fromIndex = index.findOpen(null, null, CareScheduleFilter.NONE, null, 50);
+        index.verify(fromIndex, databasePage(), null, null);
+
+        assertThat(index.mismatchCount()).isEqualTo(1);
+    }
+
+    private void create(CareRequestRow row) {
+        database.add(row);
+        writes++;
+        index.onCreated(new CareRequestCreatedEvent(entity(row)));
+    }
+
+    private void accept(CareRequestRow row) {
+        database.replaceAll(existing -> existing.id().equals(row.id()) ? assigned(existing) : existing);
+        writes++;
+        index.onAssigned(new CareRequestAssignedEvent(row.id(), row.city(), row.state()));
+    }
+
+    private ListingVersion latest() {
+        return new ListingVersion(writes, writes);
+    }
+
+    private List<UUID> indexed(String city, String state) {
+        return index.findOpen(city, state, CareScheduleFilter.NONE, null, 50).items().stream()
+                .map(CareRequestResponse::id)
+                .toList();
+    }
+
+    // the listing query: open rows in the location, by (care_date, created_at, id)
+    private List<UUID> openIds(String city, String state) {
+        return openRows().stream()
+                .filter(row -> (city == null || row.city().equals(city)) && (state == null || row.state().equals(state)))
+                .map(row -> new SqlOrder(row.careDate(), row.createdAt(), row.id()))
+                .sorted()
+                .map(SqlOrder::id)
+                .toList();
+    }
+
+    private CursorPage<CareRequestResponse> databasePage() {
+        List<UUID> ids = openIds(null, null);
+        return new CursorPage<>(
+                ids.stream()
+                        .map(id -> openRows().stream().filter(row -> row.id().equals(id)).findFirst().orElseThrow())
+                        .map(CareRequestResponse::from)
+                        .toList(),
+                null
+        );
+    }
+
+    private List<CareRequestRow> openRows() {
+        return database.stream().filter(row -> row.status() == CareRequestStatus.OPEN).toList();
+    }
+
+    private static CareRequestRow row(int n, String city, String state, LocalDate careDate, int createdOffsetMinutes) {
+        return row(new UUID(n, n), city, state, careDate, createdOffsetMinutes);
+    }
+
+    private static CareRequestRow row(UUID id, String city, String state, LocalDate careDate, int createdOffsetMinutes) {
+        return new CareRequestRow(
+                id, UUID.randomUUID(), "Acompanhamento", careDate, LocalTime.of(8, 0), LocalTime.of(12, 0),
+                city, state, null, null, CareRequestStatus.OPEN, CREATED.plusMinutes(createdOffsetMinutes)
+        );
+    }
+
+    private static CareRequestRow assigned(CareRequestRow row) {
+        return new CareRequestRow(
+                row.id(), row.elderProfileId(), row.description(), row.careDate(), row.startTime(), row.endTime(),
+                row.city(), row.state(), row.latitude(), row.longitude(), CareRequestStatus.ASSIGNED, row.createdAt()
+        );
+    }
+
+    // what the service has in hand when it publishes the created event
+    private static CareRequest entity(CareRequestRow row) {
+        ElderProfile elder = mock(ElderProfile.class);
+        when(elder.getId()).thenReturn(row.elderProfileId());
+
+        CareRequest careRequest = mock(CareRequest.class);
+        when(careRequest.getId()).thenReturn(row.id());
+        when(careRequest.getElderProfile()).thenReturn(elder);
+        when(careRequest.getDescription()).thenReturn(row.description());
+        when(careRequest.getCareDate()).thenReturn(row.careDate());
+        when(careRequest.getStartTime()).thenReturn(row.startTime());
+        when(careRequest.getEndTime()).thenReturn(row.endTime());
+        when(careRequest.getCity()).thenReturn(row.city());
+        when(careRequest.getState()).thenReturn(row.state());
+        when(careRequest.getStatus()).thenReturn(row.status());
+        when(careRequest.getCreatedAt()).thenReturn(row.createdAt());
+        return careRequest;
+    }
+
+    // Postgres ordering of (care_date, created_at, id), written out independently of the index
+    private record SqlOrder(LocalDate careDate, OffsetDateTime createdAt, UUID id)
+            implements Comparable<SqlOrder> {
+
+        @Override
+        public int compareTo(SqlOrder other) {
+            int byDate = careDate.compareTo(other.careDate);
+            if (byDate != 0) {
+                return byDate;
+            }
+            int byCreation = createdAt.compareTo(other.createdAt);
+            if (byCreation != 0) {
+                return byCreation;
+            }
+            int high = Long.compareUnsigned(id.getMostSignificantBits(), other.id.getMostSignificantBits());
+            return high != 0 ? high : Long.compareUnsigned(id.getLeastSignificantBits(), other.id.getLeastSignificantBits());
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package br.com.caregiverapp.service;
+
+import br.com.caregiverapp.domain.dto.CareRequestApplicationResponse;
+import br.com.caregiverapp.domain.dto.CareRequestResponse;
+import br.com.caregiverapp.domain.dto.CareScheduleFilter;
+import br.com.caregiverapp.domain.dto.CaregiverProfileResponse;
+import br.com.caregiverapp.domain.dto.CreateCareRequestRequest;
+import br.com.caregiverapp.domain.dto.ElderProfileResponse;
+import br.com.caregiverapp.domain.model.UserRole;
+import br.com.caregiverapp.repository.CapturingStatementInspector;
+import br.com.caregiverapp.security.AuthenticatedUserService;
+import br.com.caregiverapp.security.CurrentActor;
+import br.com.caregiverapp.security.PrincipalCache;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static br.com.caregiverapp.QueryPlanSeed.seedId;
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY;
+import static io.zonky.test.db.AutoConfigureEmbeddedDatabase.DatabaseType.POSTGRES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_CLASS;
+
+/**
+ * Counts the SQL statements behind each service call, including the mapping to its response
+ * and the flush of any writes, so a mapper that starts walking an association again (one
+ * extra select per row) fails here instead of in production. Counts are for a cold
+ * second-level cache, which is turned off here.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.caregiverapp.repository.CapturingStatementInspector",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "caregiverapp.care-request-index.enabled=false"
+})
+@AutoConfigureEmbeddedDatabase(type = POSTGRES, provider = ZONKY)
+@Import({
+        CareRequestService.class,
+        CareRequestQueryService.class,
+        CareRequestApplicationService.class,
+        CareRequestAssignmentService.class,
+        CaregiverProfileService.class,
+        ElderProfileService.class,
+        OpenCareRequestIndex.class,
+        CareRequestChangeTracker.class,
+        AuthenticatedUserService.class,
+        PrincipalCache.class
+})
+@Sql(scripts = "/db/query-plan-seed.sql", executionPhase = BEFORE_TEST_CLASS)
+class ServiceStatementCountTest {
+
+    // OPEN, owned by elder-41, with application-20 from caregiver-42
+    private static final UUID REQUEST_ID = seedId("request-20");
+
+    @Autowired
+    private CareRequestService careRequestService;
+
+    @Autowired
+    private CareRequestQueryService queryService;
+
+    @Autowired
+    private CareRequestApplicationService applicationService;
+
+    @Autowired
+    private CareRequestAssignmentService assignmentService;
+
+    @Autowired
+    private CaregiverProfileService caregiverProfileService;
+
+    @Autowired
+    private ElderProfileService elderProfileService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    // GET /api/care-requests
+
+    @Test
+    void listOpen() {
+        assertStatements(1, () -> careRequestService.listOpenByLocation(
+                "City 20", "SP", null, CareScheduleFilter.NONE, false, null, 50, null
+        ).items());
+    }
+
+    @Test
+    void searchOpen() {
+        // ranked ids, then the rows for them
+        assertStatements(2, () -> careRequestService.listOpenByLocation(
+                "City 20", "SP", "banho", CareScheduleFilter.NONE, false, null, 50, null
+        ).items());
+    }
+
+    @Test
+    void getById() {
+        assertStatements(1, () -> CareRequestResponse.from(careRequestService.getById(REQUEST_ID)));
+    }
+
+    // GET /api/care-requests/{id}/applications and /applicants (existence check + listing)
+
+    @Test
+    void listApplications() {
+        assertStatements(2, () -> queryService.listApplications(REQUEST_ID));
+    }
+
+    @Test
+    void listApplicants() {
+        assertStatements(2, () -> queryService.listApplicants(REQUEST_ID));
+    }
+
+    // POST /api/care-requests
+
+    @Test
+    void create() {
+        authenticate(seedId("user-41"), UserRole.ELDER, seedId("elder-41"));
+        CreateCareRequestRequest request = new CreateCareRequestRequest(
+                "Companhia durante a tarde", LocalDate.of(2026, 6, 1),
+                LocalTime.of(14, 0), LocalTime.of(18, 0), "City 41", "SP", -23.55, -46.63
+        );
+
+        // the elder profile is only referenced: insert
+        assertStatements(1, () -> CareRequestResponse.from(careRequestService.create(request)));
+    }
+
+    // POST /api/care-requests/{id}/apply
+
+    @Test
+    void apply() {
+        authenticate(seedId("user-8"), UserRole.CAREGIVER, seedId("caregiver-8"));
+
+        // request, duplicate check, caregiver with user, insert; mapped once the insert is flushed
+        assertStatements(4,
+                () -> applicationService.apply(REQUEST_ID, "Tenho disponibilidade"),
+                CareRequestApplicationResponse::from);
+    }
+
+    // POST /api/care-requests/{id}/applications/{applicationId}/accept
+
+    @Test
+    void accept() {
+        authenticate(seedId("user-41"), UserRole.ELDER, seedId("elder-41"));
+
+        // request, application, update; the caregiver is assigned by reference
+        assertStatements(3, () -> {
+            assignmentService.acceptApplication(REQUEST_ID, seedId("application-20"));
+            return REQUEST_ID;
+        });
+    }
+
+    // GET /api/caregiver/profile and /applications
+
+    @Test
+    void caregiverProfile() {
+        authenticate(seedId("user-8"), UserRole.CAREGIVER, seedId("caregiver-8"));
+
+        assertStatements(1, () -> CaregiverProfileResponse.from(caregiverProfileService.getProfile()));
+    }
+
+    @Test
+    void caregiverApplications() {
+        authenticate(seedId("user-8"), UserRole.CAREGIVER, seedId("caregiver-8"));
+
+        assertStatements(1, () -> caregiverProfileService.listApplications());
+    }
+
+    // GET /api/elder/profile and /care-requests
+
+    @Test
+    void elderProfile() {
+        authenticate(seedId("user-7"), UserRole.ELDER, seedId("elder-7"));
+
+        assertStatements(1, () -> ElderProfileResponse.from(elderProfileService.getProfile()));
+    }
+
+    @Test
+    void elderCareRequests() {
+        authenticate(seedId("user-7"), UserRole.ELDER, seedId("elder-7"));
+
+        assertStatements(1, () -> elderProfileService.getMyRequests(null, 50).items());
+    }
+
+    /**
+     * Runs {@code call} on a clean persistence context and flushes, so lazy loads done by the
+     * mapping and pending writes are both counted.
+     */
+    private void assertStatements(int expected, Supplier<?> call) {
+        assertStatements(expected, call, Function.identity());
+    }
+
+    /**
+     * As above, but maps the result only after the flush, the way controllers map entities
+     * written by the service once its transaction has completed.
+     */
+    private <T> void assertStatements(int expected, Supplier<T> call, Function<? super T, ?> mapping) {
+        entityManager.clear();
+        CapturingStatementInspector.clear();
+
+        T written = call.get();
+        entityManager.flush();
+        Object result = mapping.apply(written);
+
+        List<String> statements = CapturingStatementInspector.statements();
+        assertThat(result).as("result").isNotNull();
+        if (result instanceof Collection<?> items) {
+            assertThat(items).as("rows returned").isNotEmpty();
+        }
+        assertThat(statements).as("statements issued").hasSize(expected);
+    }
+
+    private static void authenticate(UUID userId, UserRole role, UUID profileId) {
+        CurrentActor actor = new CurrentActor(userId, "seed@seed.test", role, profileId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(actor, null, List.of())
+        );
+    }
+}
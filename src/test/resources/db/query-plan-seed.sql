@@ -0,0 +1,63 @@
+-- Enough rows, with realistic selectivity, that the planner only picks an index
+-- when one actually fits the query. Ids are derived from md5 so rows can reference each other.
+
+INSERT INTO users (id, full_name, email, password_hash, role)
+SELECT md5('user-' || i)::uuid,
+       'User ' || i,
+       'user' || i || '@seed.test',
+       'not-a-hash',
+       CASE WHEN i % 2 = 0 THEN 'CAREGIVER' ELSE 'ELDER' END
+FROM generate_series(1, 4000) AS i;
+
+INSERT INTO caregiver_profiles (id, user_id, bio, years_of_experience, city, state, skills)
+SELECT md5('caregiver-' || i)::uuid,
+       md5('user-' || i)::uuid,
+       'Caregiver ' || i,
+       i % 30,
+       'City ' || (i % 100),
+       (ARRAY ['SP', 'RJ', 'MG', 'PR'])[1 + i % 4],
+       'cooking,driving'
+FROM generate_series(2, 4000, 2) AS i;
+
+-- Synthetic geo cells: only the equality on geo_cell matters to the plans
+UPDATE caregiver_profiles SET geo_cell = 'c' || (abs(hashtext(id::text)) % 500);
+
+INSERT INTO elder_profiles (id, user_id, city, state, phone, address)
+SELECT md5('elder-' || i)::uuid,
+       md5('user-' || i)::uuid,
+       'City ' || (i % 100),
+       (ARRAY ['SP', 'RJ', 'MG', 'PR'])[1 + i % 4],
+       '11999990000',
+       'Rua ' || i
+FROM generate_series(1, 3999, 2) AS i;
+
+-- 5% OPEN, spread over 100 cities and a year of dates
+INSERT INTO care_requests (id, elder_profile_id, description, care_date, start_time, end_time,
+                           city, state, status, created_at)
+SELECT md5('request-' || i)::uuid,
+       md5('elder-' || (1 + 2 * (i % 2000)))::uuid,
+       (ARRAY ['Acompanhamento de idosa com demência',
+               'Ajuda para banho e transferência da cadeira de rodas',
+               'Preparo de refeições e controle de medicamentos',
+               'Companhia durante a tarde e caminhada leve',
+               'Cuidados noturnos após cirurgia no quadril'])[1 + (i / 20) % 5] || ' #' || i,
+       DATE '2026-01-01' + (i % 365),
+       TIME '06:00' + make_interval(hours => (i / 20) % 12),
+       TIME '09:00' + make_interval(hours => (i / 20) % 12),
+       'City ' || (i % 100),
+       (ARRAY ['SP', 'RJ', 'MG', 'PR'])[1 + i % 4],
+       CASE WHEN i % 20 = 0 THEN 'OPEN' ELSE 'ASSIGNED' END,
+       now() - make_interval(mins => i)
+FROM generate_series(1, 100000) AS i;
+
+UPDATE care_requests SET geo_cell = 'c' || (abs(hashtext(id::text)) % 5000);
+
+INSERT INTO care_request_applications (id, care_request_id, caregiver_profile_id, message, created_at)
+SELECT md5('application-' || i)::uuid,
+       md5('request-' || i)::uuid,
+       md5('caregiver-' || (2 + 2 * (i % 2000)))::uuid,
+       'Seeded application ' || i,
+       now() - make_interval(mins => i)
+FROM generate_series(1, 50000) AS i;
+
+ANALYZE;